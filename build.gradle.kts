@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("maven-publish")
     id("signing")
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 group = "com.bloogefest"
@@ -121,6 +122,37 @@ configurations.all {
 
 tasks.test {
     useJUnitPlatform()
+
+    filter {
+        excludeTestsMatching("com.bloogefest.version.VersionMetricsTest")
+    }
+}
+
+val metricsTest by tasks.registering(Test::class) {
+    description = "Runs the comparison metrics tests with the counting sink."
+    group = "verification"
+
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+
+    useJUnitPlatform()
+    systemProperty("com.bloogefest.version.metrics", "counters")
+
+    filter {
+        includeTestsMatching("com.bloogefest.version.VersionMetricsTest")
+    }
+
+    shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+    dependsOn(metricsTest)
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
 }
 
 tasks.javadoc {
@@ -140,4 +172,8 @@ tasks.compileJava {
 
 tasks.compileTestJava {
     options.encoding = "UTF-8"
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.encoding = "UTF-8"
 }
\ No newline at end of file
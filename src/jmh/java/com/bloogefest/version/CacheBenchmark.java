@@ -0,0 +1,82 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionedCache кеша с версиями}: поиск и инвалидация старых записей
+ * повышением порога в сравнении с перебором отображения.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    private VersionedCache<Integer, Integer> cache;
+
+    private ConcurrentHashMap<Integer, DoubleVersion> map;
+
+    private DoubleVersion threshold;
+
+    private int next;
+
+    @Setup
+    public void setup() throws NullException {
+        cache = new VersionedCache<>(size);
+        map = new ConcurrentHashMap<>();
+        for (var key = 0; key < size; ++key) {
+            cache.put(key, Version.pack(1, key & 15), key);
+            map.put(key, Version.unpack(Version.pack(1, key & 15)));
+        }
+        threshold = Version.unpack(Version.pack(0, 1));
+    }
+
+    @Benchmark
+    public Integer get() throws NullException {
+        return cache.get(next++ & size - 1);
+    }
+
+    @Benchmark
+    public boolean invalidateBelow() throws NullException {
+        return cache.invalidateBelow(threshold);
+    }
+
+    @Benchmark
+    public boolean scanOlder() throws NullException {
+        var removed = false;
+        for (final var entry : map.entrySet()) {
+            if (entry.getValue().older(threshold)) {
+                removed |= map.remove(entry.getKey()) != null;
+            }
+        }
+        return removed;
+    }
+
+}
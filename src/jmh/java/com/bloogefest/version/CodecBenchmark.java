@@ -0,0 +1,88 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@link VersionCodec} в сравнении с передачей версий строками.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    private SingleVersion[] versions;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        versions = VersionSamples.mixed(1024, 64, 64, 42);
+        buffer = ByteBuffer.allocate(versions.length * VersionCodec.MAX_VARINT_BYTES);
+    }
+
+    @Benchmark
+    public void strings(final Blackhole blackhole) throws NullException {
+        buffer.clear();
+        for (final var version : versions) {
+            final var bytes = version.toString().getBytes(StandardCharsets.US_ASCII);
+            buffer.put((byte) bytes.length).put(bytes);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            final var length = buffer.get();
+            blackhole.consume(Version.parse(buffer, buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    @Benchmark
+    public void fixed(final Blackhole blackhole) throws NullException {
+        buffer.clear();
+        for (final var version : versions) {
+            VersionCodec.writeFixed(version, buffer);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            blackhole.consume(VersionCodec.readFixed(buffer));
+        }
+    }
+
+    @Benchmark
+    public void varint(final Blackhole blackhole) throws NullException {
+        buffer.clear();
+        for (final var version : versions) {
+            VersionCodec.writeVarint(version, buffer);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            blackhole.consume(VersionCodec.readVarint(buffer));
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionColumn столбца версий вне кучи} по сравнению с группировкой объектов
+ * версий в куче.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ColumnBenchmark {
+
+    private static final int SIZE = 1 << 24;
+
+    private long[] packed;
+
+    private VersionColumn column;
+
+    @Setup
+    public void setup() throws NullException {
+        final var random = new SplittableRandom(42);
+        packed = new long[SIZE];
+        for (var index = 0; index < SIZE; ++index) {
+            packed[index] = Version.pack(random.nextInt(16), random.nextInt(64));
+        }
+        column = new VersionColumn();
+        column.appendAll(packed);
+    }
+
+    @Benchmark
+    public int counts() {
+        return column.counts().size();
+    }
+
+    @Benchmark
+    public int heapCounts() {
+        final var counts = new HashMap<DoubleVersion, Long>();
+        for (final var version : packed) {
+            counts.merge(Version.unpack(version), 1L, Long::sum);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public long percentile() {
+        return column.percentile(0.95);
+    }
+
+    @Benchmark
+    public long sort() throws NullException {
+        final var copy = new VersionColumn();
+        copy.appendAll(packed);
+        copy.sort();
+        return copy.max();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности методов {@code newer}, {@code same} и {@code older} на смешанных версиях одиночного и
+ * двойного форматов, а также их аналогов над упакованными версиями.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ComparisonBenchmark {
+
+    private Version[] versions;
+
+    private long[] packed;
+
+    @Setup
+    public void setup() {
+        final var versions = VersionSamples.mixed(1024, 8, 8, 42);
+        this.versions = versions;
+        packed = VersionSamples.packed(versions);
+    }
+
+    @Benchmark
+    public int newer() throws NullException {
+        var count = 0;
+        for (var index = 1; index < versions.length; ++index) {
+            if (versions[index - 1].newer(versions[index])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int same() throws NullException {
+        var count = 0;
+        for (var index = 1; index < versions.length; ++index) {
+            if (versions[index - 1].same(versions[index])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int older() throws NullException {
+        var count = 0;
+        for (var index = 1; index < versions.length; ++index) {
+            if (versions[index - 1].older(versions[index])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int packedNewer() {
+        var count = 0;
+        for (var index = 1; index < packed.length; ++index) {
+            if (Version.newer(packed[index - 1], packed[index])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int packedSame() {
+        var count = 0;
+        for (var index = 1; index < packed.length; ++index) {
+            if (Version.same(packed[index - 1], packed[index])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain CompatibilityMatrix#isCompatible(long, long) проверки совместимости} в
+ * сравнении с вложенными сравнениями версий.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CompatibilityBenchmark {
+
+    private DoubleVersion[] clients;
+
+    private DoubleVersion[] servers;
+
+    private long[] packedClients;
+
+    private long[] packedServers;
+
+    private CompatibilityMatrix matrix;
+
+    private int next;
+
+    @Setup
+    public void setup() throws NullException {
+        final var sampleClients = VersionSamples.mixed(1024, 8, 64, 42);
+        final var sampleServers = VersionSamples.mixed(1024, 8, 64, 43);
+        clients = new DoubleVersion[sampleClients.length];
+        servers = new DoubleVersion[sampleServers.length];
+        packedClients = new long[sampleClients.length];
+        packedServers = new long[sampleServers.length];
+        for (var index = 0; index < sampleClients.length; ++index) {
+            packedClients[index] = sampleClients[index].pack();
+            packedServers[index] = sampleServers[index].pack();
+            clients[index] = Version.unpack(packedClients[index]);
+            servers[index] = Version.unpack(packedServers[index]);
+        }
+        matrix = CompatibilityMatrix.builder(VersionSet.of(sampleClients), VersionSet.of(sampleServers))
+                                    .minorWindow(2, 8)
+                                    .build();
+    }
+
+    @Benchmark
+    public boolean comparisons() throws NullException {
+        final var index = next++ & 1023;
+        final var client = clients[index];
+        final var server = servers[index];
+        return client.major() == server.major() && !server.older(new DoubleVersion.Impl(client.major(),
+                Math.max(0, client.minor() - 2))) && !server.newer(new DoubleVersion.Impl(client.major(),
+                client.minor() + 8));
+    }
+
+    @Benchmark
+    public boolean matrix() {
+        final var index = next++ & 1023;
+        return matrix.isCompatible(packedClients[index], packedServers[index]);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain DependencyResolver#resolve(Map) разрешения зависимостей} без запомненных
+ * решений, с запомненными решениями и после изменения одного модуля.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DependencyBenchmark {
+
+    @Param({"16", "256"})
+    public int modules;
+
+    private DependencyCatalog.Impl catalog;
+
+    private DependencyResolver resolver;
+
+    private Map<String, VersionRange> requirements;
+
+    private int revision;
+
+    @Setup
+    public void setup() throws NullException {
+        catalog = new DependencyCatalog.Impl();
+        for (var module = 0; module < modules; ++module) {
+            for (var major = 1; major <= 8; ++major) {
+                final var dependencies = module + 1 < modules
+                                         ? Map.of("module" + (module + 1), VersionRange.parse("^" + major + ".0"))
+                                         : Map.<String, VersionRange>of();
+                catalog.add("module" + module, new DoubleVersion.Impl(major, 0), dependencies);
+                if (module + 2 < modules) {
+                    catalog.add("module" + module, new DoubleVersion.Impl(major, 1),
+                                Map.of("module" + (module + 2), VersionRange.parse("^" + major + ".0")));
+                }
+            }
+        }
+        resolver = new DependencyResolver(catalog);
+        requirements = Map.of("module0", VersionRange.all());
+        resolver.resolve(requirements);
+    }
+
+    @Benchmark
+    public Map<String, DoubleVersion> cold() throws NullException {
+        resolver.clear();
+        return resolver.resolve(requirements);
+    }
+
+    @Benchmark
+    public Map<String, DoubleVersion> warm() throws NullException {
+        return resolver.resolve(requirements);
+    }
+
+    @Benchmark
+    public Map<String, DoubleVersion> changed() throws NullException {
+        catalog.add("module" + modules / 2, new DoubleVersion.Impl(1, 2 + (revision++ & 1023)));
+        return resolver.resolve(requirements);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionDiff вычисления различий} слиянием по сравнению с вложенными циклами.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DiffBenchmark {
+
+    @Param({"64", "1024"})
+    public int size;
+
+    private long[] older;
+
+    private long[] newer;
+
+    private Counter counter;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        older = random.longs(size, 0, size * 4L).sorted().distinct().toArray();
+        newer = random.longs(size, 0, size * 4L).sorted().distinct().toArray();
+        counter = new Counter();
+    }
+
+    @Benchmark
+    public long merge() throws NullException {
+        counter.count = 0;
+        VersionDiff.diff("artifact", older, newer, counter);
+        return counter.count;
+    }
+
+    @Benchmark
+    public long nestedLoops() {
+        return missing(newer, older) + missing(older, newer);
+    }
+
+    private static long missing(final long[] versions, final long[] others) {
+        var count = 0L;
+        outer:
+        for (final var version : versions) {
+            for (final var other : others) {
+                if (other == version) {
+                    continue outer;
+                }
+            }
+            ++count;
+        }
+        return count;
+    }
+
+    private static final class Counter implements VersionDiff.Listener {
+
+        private long count;
+
+        @Override
+        public void added(final String artifact, final long version) {
+            ++count;
+        }
+
+        @Override
+        public void removed(final String artifact, final long version) {
+            ++count;
+        }
+
+    }
+
+}
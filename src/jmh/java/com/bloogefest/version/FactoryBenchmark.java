@@ -0,0 +1,72 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности фабричных методов {@link SingleVersion#of(int)} и {@link DoubleVersion#of(int, int)}.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    @Param({"16", "4096"})
+    public int majors;
+
+    private int[] numbers;
+
+    @Setup
+    public void setup() {
+        final var versions = VersionSamples.mixed(1024, majors, majors, 42);
+        numbers = new int[versions.length];
+        for (var index = 0; index < versions.length; ++index) {
+            numbers[index] = versions[index].major();
+        }
+    }
+
+    @Benchmark
+    public void singleOf(final Blackhole blackhole) {
+        for (final var number : numbers) {
+            blackhole.consume(SingleVersion.of(number));
+        }
+    }
+
+    @Benchmark
+    public void doubleOf(final Blackhole blackhole) {
+        for (var index = 1; index < numbers.length; ++index) {
+            blackhole.consume(DoubleVersion.of(numbers[index - 1], numbers[index]));
+        }
+    }
+
+    @Benchmark
+    public void doubleImpl(final Blackhole blackhole) {
+        for (var index = 1; index < numbers.length; ++index) {
+            blackhole.consume(new DoubleVersion.Impl(numbers[index - 1], numbers[index]));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности форматирования версий строками и в переданный буфер.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    private SingleVersion[] versions;
+
+    private SingleVersion[] uncached;
+
+    private byte[] bytes;
+
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        uncached = VersionSamples.mixed(1024, 64, 64, 42);
+        versions = new SingleVersion[uncached.length];
+        for (var index = 0; index < uncached.length; ++index) {
+            versions[index] = uncached[index] instanceof DoubleVersion version
+                              ? DoubleVersion.of(version.major(), version.minor())
+                              : SingleVersion.of(uncached[index].major());
+        }
+        bytes = new byte[32];
+        builder = new StringBuilder(32);
+    }
+
+    @Benchmark
+    public void toStringBytes(final Blackhole blackhole) {
+        for (final var version : uncached) {
+            blackhole.consume(version.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Benchmark
+    public void cachedToString(final Blackhole blackhole) {
+        for (final var version : versions) {
+            blackhole.consume(version.toString());
+        }
+    }
+
+    @Benchmark
+    public void formatToBytes(final Blackhole blackhole) throws NullException {
+        for (final var version : uncached) {
+            blackhole.consume(version.formatTo(bytes, 0));
+        }
+    }
+
+    @Benchmark
+    public void formatToBuilder(final Blackhole blackhole) throws NullException {
+        for (final var version : uncached) {
+            builder.setLength(0);
+            blackhole.consume(version.formatTo(builder));
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@link Object#hashCode()} и {@link Object#equals(Object)} встроенных реализаций при
+ * поиске в {@link HashMap} в сравнении с {@link VersionMap}.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HashingBenchmark {
+
+    @Param({"64", "1024"})
+    public int majors;
+
+    private SingleVersion[] keys;
+
+    private Map<SingleVersion, Integer> map;
+
+    private VersionMap<Integer> versionMap;
+
+    @Setup
+    public void setup() throws NullException {
+        keys = VersionSamples.mixed(1024, majors, 64, 42);
+        map = new HashMap<>();
+        versionMap = new VersionMap<>();
+        for (final var version : VersionSamples.mixed(4096, majors, 64, 7)) {
+            map.put(version, version.major());
+            versionMap.put(version.pack(), version.major());
+        }
+    }
+
+    @Benchmark
+    public void hashCodes(final Blackhole blackhole) {
+        for (final var key : keys) {
+            blackhole.consume(key.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void lookups(final Blackhole blackhole) {
+        for (final var key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    public void versionMapLookups(final Blackhole blackhole) throws NullException {
+        for (final var key : keys) {
+            blackhole.consume(versionMap.get(key));
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности поиска в {@linkplain VersionIndex отображённом в память индексе версий}.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    private Path path;
+
+    private VersionIndex index;
+
+    private VersionRange range;
+
+    private int next;
+
+    @Setup
+    public void setup() throws NullException, IOException {
+        path = Files.createTempFile("versions", ".index");
+        try (final var writer = VersionIndex.writer(path)) {
+            for (var artifact = 0; artifact < 4096; ++artifact) {
+                for (var major = 0; major < 16; ++major) {
+                    for (var minor = 0; minor < 64; ++minor) {
+                        writer.add("artifact" + artifact, Version.pack(major, minor));
+                    }
+                }
+            }
+        }
+        index = VersionIndex.open(path);
+        range = VersionRange.parse("^8.0");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long bestMatch() throws NullException {
+        return index.bestMatch("artifact" + (next++ & 4095), range);
+    }
+
+    @Benchmark
+    public long count() throws NullException {
+        return index.count("artifact" + (next++ & 4095), range);
+    }
+
+}
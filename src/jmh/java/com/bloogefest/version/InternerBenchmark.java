@@ -0,0 +1,75 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionInterner кеша результатов разбора} по сравнению с разбором без кеша.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class InternerBenchmark {
+
+    private byte[][] inputs;
+
+    private VersionInterner interner;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        inputs = new byte[1024][];
+        for (var index = 0; index < inputs.length; ++index) {
+            final var version = (random.nextInt(200) + 100) + "." + (random.nextInt(200) + 100);
+            inputs[index] = version.getBytes(StandardCharsets.US_ASCII);
+        }
+        interner = new VersionInterner(4096);
+    }
+
+    @Benchmark
+    public SingleVersion parse() throws NullException {
+        final var input = inputs[next++ & 1023];
+        return Version.parse(input, 0, input.length);
+    }
+
+    @Benchmark
+    public SingleVersion interned() throws NullException {
+        final var input = inputs[next++ & 1023];
+        return interner.parse(input, 0, input.length);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SingleVersion internedContended() throws NullException {
+        final var input = inputs[next++ & 1023];
+        return interner.parse(input, 0, input.length);
+    }
+
+}
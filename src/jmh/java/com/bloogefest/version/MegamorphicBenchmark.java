@@ -0,0 +1,128 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности сравнения версий при одной реализации и при смешении реализаций всех форматов, включая
+ * стороннюю.
+ * <p>
+ * Замер {@link #virtualPack(Blackhole)} сравнивает смешанные версии через виртуальный вызов
+ * {@link SingleVersion#pack()}, как это делалось до запечатывания встроенных реализаций, и показывает стоимость
+ * мегаморфного вызова.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MegamorphicBenchmark {
+
+    private SingleVersion[] monomorphic;
+
+    private SingleVersion[] megamorphic;
+
+    private SingleVersion[] adapted;
+
+    @Setup
+    public void setup() throws NullException {
+        final var random = new SplittableRandom(42);
+        monomorphic = new SingleVersion[1024];
+        megamorphic = new SingleVersion[monomorphic.length];
+        adapted = new SingleVersion[monomorphic.length];
+        for (var index = 0; index < monomorphic.length; ++index) {
+            final var major = random.nextInt(16);
+            final var minor = random.nextInt(16);
+            monomorphic[index] = new DoubleVersion.Impl(major, minor);
+            megamorphic[index] = switch (index % 6) {
+                case 0 -> SingleVersion.of(major);
+                case 1 -> DoubleVersion.of(major, minor);
+                case 2 -> new DoubleVersion.Impl(major, minor);
+                case 3 -> TripleVersion.of(major, minor, random.nextInt(4));
+                case 4 -> MultiVersion.of(major, minor, 0, random.nextInt(4));
+                default -> new Foreign(major, minor);
+            };
+            adapted[index] = Versions.adapt(megamorphic[index]);
+        }
+    }
+
+    @Benchmark
+    public void monomorphic(final Blackhole blackhole) {
+        compare(monomorphic, blackhole);
+    }
+
+    @Benchmark
+    public void megamorphic(final Blackhole blackhole) {
+        compare(megamorphic, blackhole);
+    }
+
+    @Benchmark
+    public void adapted(final Blackhole blackhole) {
+        compare(adapted, blackhole);
+    }
+
+    @Benchmark
+    public void virtualPack(final Blackhole blackhole) {
+        for (var index = 1; index < megamorphic.length; ++index) {
+            blackhole.consume(Long.compare(megamorphic[index - 1].pack(), megamorphic[index].pack()));
+        }
+    }
+
+    private static void compare(final @NotNull SingleVersion[] versions, final @NotNull Blackhole blackhole) {
+        for (var index = 1; index < versions.length; ++index) {
+            blackhole.consume(versions[index - 1].compareTo(versions[index]));
+        }
+    }
+
+    /**
+     * Сторонняя реализация версии двойного формата.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Foreign implements DoubleVersion {
+
+        private final int major;
+
+        private final int minor;
+
+        private Foreign(final int major, final int minor) {
+            this.major = major;
+            this.minor = minor;
+        }
+
+        @Override
+        public int major() {
+            return major;
+        }
+
+        @Override
+        public int minor() {
+            return minor;
+        }
+
+    }
+
+}
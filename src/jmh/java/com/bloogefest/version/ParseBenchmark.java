@@ -0,0 +1,86 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain Version#parse(CharSequence) разбора версий} в сравнении с разбором через
+ * {@link String#split(String)} и {@link Integer#parseInt(String)}, а также
+ * {@linkplain Versions#parseAll(ByteBuffer) пакетного разбора}.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    private String[] strings;
+
+    private byte[][] bytes;
+
+    private ByteBuffer lines;
+
+    @Setup
+    public void setup() {
+        strings = VersionSamples.strings(VersionSamples.mixed(1024, 64, 256, 42));
+        bytes = new byte[strings.length][];
+        for (var index = 0; index < strings.length; ++index) {
+            bytes[index] = strings[index].getBytes(StandardCharsets.US_ASCII);
+        }
+        lines = ByteBuffer.wrap(String.join("\n", strings).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) throws NullException {
+        for (final var string : strings) {
+            blackhole.consume(Version.parse(string));
+        }
+    }
+
+    @Benchmark
+    public void parseBytes(final Blackhole blackhole) throws NullException {
+        for (final var array : bytes) {
+            blackhole.consume(Version.parse(array, 0, array.length));
+        }
+    }
+
+    @Benchmark
+    public long[] parseAll() throws NullException {
+        return Versions.parseAll(lines);
+    }
+
+    @Benchmark
+    public void split(final Blackhole blackhole) {
+        for (final var string : strings) {
+            final var parts = string.split("\\.");
+            blackhole.consume(parts.length == 1
+                              ? SingleVersion.of(Integer.parseInt(parts[0]))
+                              : DoubleVersion.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+        }
+    }
+
+}
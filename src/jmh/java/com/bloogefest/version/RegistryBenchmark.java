@@ -0,0 +1,68 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionRegistry реестра версий}: чтение последней версии без записи и вместе
+ * с продвижением версии из другого потока.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Group)
+public class RegistryBenchmark {
+
+    private VersionRegistry registry;
+
+    private long next;
+
+    @Setup
+    public void setup() throws NullException {
+        registry = new VersionRegistry();
+        registry.advanceIfNewer("schema", Version.pack(1, 0));
+    }
+
+    @Benchmark
+    @Group("uncontended")
+    public long latest() throws NullException {
+        return registry.latestPacked("schema");
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public long contendedLatest() throws NullException {
+        return registry.latestPacked("schema");
+    }
+
+    @Benchmark
+    @Group("contended")
+    public boolean contendedAdvance() throws NullException {
+        return registry.advanceIfNewer("schema", Version.pack(1, (int) (++next & Integer.MAX_VALUE)));
+    }
+
+}
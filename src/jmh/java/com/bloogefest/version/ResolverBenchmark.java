@@ -0,0 +1,70 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionResolver#bestMatch(VersionRange) выбора наиболее подходящей версии} в
+ * сравнении с линейным перебором кандидатов.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResolverBenchmark {
+
+    @Param({"64", "65536"})
+    public int size;
+
+    private SingleVersion[] candidates;
+
+    private VersionResolver resolver;
+
+    private VersionRange constraint;
+
+    @Setup
+    public void setup() throws NullException {
+        candidates = VersionSamples.mixed(size, 256, 1024, 42);
+        resolver = new VersionResolver(VersionSet.of(candidates));
+        constraint = VersionRange.parse("^128.0");
+    }
+
+    @Benchmark
+    public SingleVersion linear() throws NullException {
+        SingleVersion best = null;
+        for (final var candidate : candidates) {
+            if (constraint.matches(candidate) && (best == null || candidate.compareTo(best) > 0)) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public long bestMatch() throws NullException {
+        return resolver.bestMatchPacked(constraint);
+    }
+
+}
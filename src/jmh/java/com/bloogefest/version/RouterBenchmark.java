@@ -0,0 +1,86 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности {@linkplain VersionRouter маршрутизатора} по сравнению с последовательной проверкой
+ * правил.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+
+    @Param({"4", "64"})
+    public int rules;
+
+    private VersionRange[] ranges;
+
+    private Integer[] pools;
+
+    private VersionRouter<Integer> router;
+
+    private long[] versions;
+
+    private int next;
+
+    @Setup
+    public void setup() throws NullException {
+        ranges = new VersionRange[rules];
+        pools = new Integer[rules];
+        final var builder = VersionRouter.<Integer>builder();
+        for (var rule = 0; rule < rules; ++rule) {
+            ranges[rule] = VersionRange.interval(Version.pack(rule, 0), Version.pack(rule + 1, 0));
+            pools[rule] = rule;
+            builder.rule(ranges[rule], pools[rule]);
+        }
+        router = new VersionRouter<>(builder.build());
+        final var random = new SplittableRandom(42);
+        versions = new long[1024];
+        for (var index = 0; index < versions.length; ++index) {
+            versions[index] = Version.pack(random.nextInt(rules), random.nextInt(16));
+        }
+    }
+
+    @Benchmark
+    public Integer table() {
+        return router.route(versions[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer linear() {
+        final var version = versions[next++ & 1023];
+        for (var rule = 0; rule < ranges.length; ++rule) {
+            if (ranges[rule].matches(version)) {
+                return pools[rule];
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности сортировки больших массивов версий.
+ *
+ * @since 1.0.0-RC2
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+    /**
+     * Компаратор, построенный из методов {@code newer}, {@code same} и {@code older}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final Comparator<SingleVersion> COMPARATOR = (first, second) -> {
+        try {
+            return first.same(second) ? 0 : first.newer(second) ? -1 : 1;
+        } catch (final Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    };
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private SingleVersion[] source;
+
+    private long[] packedSource;
+
+    private SingleVersion[] versions;
+
+    private long[] packed;
+
+    @Setup
+    public void setup() {
+        source = VersionSamples.mixed(size, 1024, 1024, 42);
+        packedSource = VersionSamples.packed(source);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        versions = source.clone();
+        packed = packedSource.clone();
+    }
+
+    @Benchmark
+    public SingleVersion[] comparator() {
+        Arrays.sort(versions, COMPARATOR);
+        return versions;
+    }
+
+    @Benchmark
+    public SingleVersion[] natural() {
+        Arrays.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public SingleVersion[] radix() throws NullException {
+        Versions.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public long[] packed() {
+        Arrays.sort(packed);
+        return packed;
+    }
+
+    @Benchmark
+    public long[] packedRadix() throws NullException {
+        Versions.sort(packed);
+        return packed;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+
+import java.util.SplittableRandom;
+
+/**
+ * Генератор воспроизводимых наборов версий для замеров производительности.
+ *
+ * @since 1.0.0-RC2
+ */
+final class VersionSamples {
+
+    private VersionSamples() {
+    }
+
+    /**
+     * Создаёт и возвращает массив версий одиночного и двойного форматов, перемешанных в случайном порядке.
+     *
+     * @param size количество версий.
+     * @param majors количество различных главных номеров версий.
+     * @param minors количество различных второстепенных номеров версий.
+     * @param seed зерно генератора случайных чисел.
+     *
+     * @return Массив версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull SingleVersion[] mixed(final int size, final int majors, final int minors, final long seed) {
+        final var random = new SplittableRandom(seed);
+        final var versions = new SingleVersion[size];
+        for (var index = 0; index < size; ++index) {
+            final var major = random.nextInt(majors);
+            versions[index] = random.nextInt(4) == 0
+                              ? new SingleVersion.Impl(major)
+                              : new DoubleVersion.Impl(major, random.nextInt(minors));
+        }
+        return versions;
+    }
+
+    /**
+     * Создаёт и возвращает массив строковых представлений переданных версий.
+     *
+     * @param versions версии.
+     *
+     * @return Массив строковых представлений.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull String[] strings(final @NotNull SingleVersion[] versions) {
+        final var strings = new String[versions.length];
+        for (var index = 0; index < versions.length; ++index) {
+            strings[index] = versions[index].toString();
+        }
+        return strings;
+    }
+
+    /**
+     * Создаёт и возвращает массив упакованных представлений переданных версий.
+     *
+     * @param versions версии.
+     *
+     * @return Массив упакованных представлений.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull long[] packed(final @NotNull SingleVersion[] versions) {
+        final var packed = new long[versions.length];
+        for (var index = 0; index < versions.length; ++index) {
+            packed[index] = versions[index].pack();
+        }
+        return packed;
+    }
+
+}
@@ -0,0 +1,658 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Неизменяемая матрица совместимости версий клиентов и серверов.
+ * <p>
+ * Матрица {@linkplain Builder строится} из правил для известных заранее множеств версий клиентов и серверов и хранит
+ * результат как плотную битовую таблицу. Упакованные версии переводятся в номера строк и столбцов таблицы
+ * хеш-таблицами с открытой адресацией, поэтому {@linkplain #isCompatible(long, long) проверка совместимости} занимает
+ * постоянное время и не выделяет память. Неизвестные матрице версии несовместимы ни с какими версиями.
+ * <p>
+ * Построенную матрицу можно {@linkplain #write(DataOutput) сохранить} и {@linkplain #read(DataInput) загрузить}
+ * без повторного применения правил.
+ *
+ * @see Builder
+ * @since 1.0.0-RC2
+ */
+public final class CompatibilityMatrix {
+
+    /**
+     * Сигнатура сохранённой матрицы.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int MAGIC = 0x4246434D;
+
+    /**
+     * Количество чисел, под которое память выделяется до их чтения. Дальше массив растёт по мере чтения, поэтому
+     * объявленная в потоке длина не может потребовать больше памяти, чем занимают действительно прочитанные данные.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int CHUNK = 1 << 10;
+
+    /**
+     * Отсортированные упакованные версии клиентов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long[] clients;
+
+    /**
+     * Отсортированные упакованные версии серверов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long[] servers;
+
+    /**
+     * Хеш-таблица номеров строк, увеличенных на единицу.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int[] rows;
+
+    /**
+     * Хеш-таблица номеров столбцов, увеличенных на единицу.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int[] columns;
+
+    /**
+     * Битовая таблица совместимости по строкам.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long[] bits;
+
+    private CompatibilityMatrix(final @NotNull long[] clients, final @NotNull long[] servers,
+                                final @NotNull long[] bits) {
+        this.clients = clients;
+        this.servers = servers;
+        this.rows = index(clients);
+        this.columns = index(servers);
+        this.bits = bits;
+    }
+
+    /**
+     * Создаёт и возвращает построитель матрицы для переданных множеств версий клиентов и серверов.
+     *
+     * @param clients множество версий клиентов.
+     * @param servers множество версий серверов.
+     *
+     * @return Построитель матрицы, в которой все версии несовместимы.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public static @NotNull Builder builder(final @NotNull VersionSet clients, final @NotNull VersionSet servers)
+            throws NullException {
+        return new Builder(Validator.notNull(clients, "The passed clients").toPackedArray(),
+                           Validator.notNull(servers, "The passed servers").toPackedArray());
+    }
+
+    /**
+     * Читает и возвращает матрицу, {@linkplain #write(DataOutput) сохранённую} в переданный поток.
+     *
+     * @param input поток.
+     *
+     * @return Матрицу совместимости.
+     *
+     * @see #write(DataOutput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull CompatibilityMatrix read(final @NotNull DataInput input)
+            throws NullException, IOException, VersionFormatException {
+        if (Validator.notNull(input, "The passed input").readInt() != MAGIC) {
+            throw new VersionFormatException("The passed data is not a compatibility matrix");
+        }
+        final var clients = readVersions(input);
+        final var servers = readVersions(input);
+        final var size = (long) clients.length * servers.length;
+        final var bits = readLongs(input, size + 63 >>> 6);
+        if ((size & 63) != 0 && bits[bits.length - 1] >>> (size & 63) != 0) {
+            throw new VersionFormatException("The passed data is not a compatibility matrix");
+        }
+        return new CompatibilityMatrix(clients, servers, bits);
+    }
+
+    /**
+     * Записывает матрицу в переданный поток.
+     *
+     * @param output поток.
+     *
+     * @see #read(DataInput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public void write(final @NotNull DataOutput output) throws NullException, IOException {
+        Validator.notNull(output, "The passed output").writeInt(MAGIC);
+        writeVersions(output, clients);
+        writeVersions(output, servers);
+        for (final var word : bits) {
+            output.writeLong(word);
+        }
+    }
+
+    /**
+     * Возвращает множество версий клиентов матрицы.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull VersionSet clients() {
+        return VersionSet.ofSorted(clients.clone());
+    }
+
+    /**
+     * Возвращает множество версий серверов матрицы.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull VersionSet servers() {
+        return VersionSet.ofSorted(servers.clone());
+    }
+
+    /**
+     * Возвращает истинное значение, если переданные упакованные версии клиента и сервера совместимы, в противном
+     * случае — ложное значение.
+     *
+     * @param client упакованная версия клиента.
+     * @param server упакованная версия сервера.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #isCompatible(SingleVersion, SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public boolean isCompatible(final long client, final long server) {
+        final var row = find(rows, clients, client);
+        if (row < 0) {
+            return false;
+        }
+        final var column = find(columns, servers, server);
+        if (column < 0) {
+            return false;
+        }
+        final var bit = (long) row * servers.length + column;
+        return (bits[(int) (bit >>> 6)] & 1L << bit) != 0;
+    }
+
+    /**
+     * Возвращает истинное значение, если переданные версии клиента и сервера совместимы, в противном случае — ложное
+     * значение.
+     *
+     * @param client версия клиента.
+     * @param server версия сервера.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #isCompatible(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public boolean isCompatible(final @NotNull SingleVersion client, final @NotNull SingleVersion server)
+            throws NullException {
+        return isCompatible(Validator.notNull(client, "The passed client").pack(),
+                            Validator.notNull(server, "The passed server").pack());
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("!null -> _; _ -> false")
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final CompatibilityMatrix matrix)) {
+            return false;
+        }
+        return Arrays.equals(clients, matrix.clients) && Arrays.equals(servers, matrix.servers)
+               && Arrays.equals(bits, matrix.bits);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> const")
+    public int hashCode() {
+        return (Arrays.hashCode(clients) * 31 + Arrays.hashCode(servers)) * 31 + Arrays.hashCode(bits);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "CompatibilityMatrix[clients=" + clients.length + ", servers=" + servers.length + "]";
+    }
+
+    /**
+     * Возвращает количество слов битовой таблицы переданного размера.
+     *
+     * @param rows количество строк.
+     * @param columns количество столбцов.
+     *
+     * @return Количество слов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int words(final int rows, final int columns) {
+        final var words = ((long) rows * columns + 63) >>> 6;
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("The passed versions are too many for a compatibility matrix");
+        }
+        return (int) words;
+    }
+
+    /**
+     * Создаёт и возвращает хеш-таблицу номеров переданных упакованных версий, увеличенных на единицу.
+     *
+     * @param keys упакованные версии.
+     *
+     * @return Хеш-таблицу.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull int[] index(final @NotNull long[] keys) {
+        final var table = new int[Integer.highestOneBit(Math.max(1, keys.length) * 2 - 1) << 1];
+        final var mask = table.length - 1;
+        for (var key = 0; key < keys.length; ++key) {
+            var slot = VersionCache.mix(keys[key]) & mask;
+            while (table[slot] != 0) {
+                slot = slot + 1 & mask;
+            }
+            table[slot] = key + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Возвращает номер переданной упакованной версии в переданной хеш-таблице или {@code -1}, если её там нет.
+     *
+     * @param table хеш-таблица.
+     * @param keys упакованные версии.
+     * @param version упакованная версия.
+     *
+     * @return Номер версии или {@code -1}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int find(final @NotNull int[] table, final @NotNull long[] keys, final long version) {
+        final var mask = table.length - 1;
+        for (var slot = VersionCache.mix(version) & mask; ; slot = slot + 1 & mask) {
+            final var entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (keys[entry - 1] == version) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Записывает переданные упакованные версии в переданный поток.
+     *
+     * @param output поток.
+     * @param versions упакованные версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void writeVersions(final @NotNull DataOutput output, final @NotNull long[] versions)
+            throws IOException {
+        output.writeInt(versions.length);
+        for (final var version : versions) {
+            output.writeLong(version);
+        }
+    }
+
+    /**
+     * Читает и возвращает упакованные версии из переданного потока, проверяя их порядок.
+     *
+     * @param input поток.
+     *
+     * @return Упакованные версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull long[] readVersions(final @NotNull DataInput input) throws IOException {
+        final var versions = readLongs(input, input.readInt());
+        for (var index = 0; index < versions.length; ++index) {
+            if (versions[index] < 0 || index > 0 && versions[index] <= versions[index - 1]) {
+                throw new VersionFormatException("The passed data is not a compatibility matrix");
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Читает и возвращает переданное количество чисел из переданного потока. Массив растёт по мере чтения, начиная с
+     * {@link #CHUNK} чисел.
+     *
+     * @param input поток.
+     * @param length количество чисел.
+     *
+     * @return Прочитанные числа.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull long[] readLongs(final @NotNull DataInput input, final long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new VersionFormatException("The passed data is not a compatibility matrix");
+        }
+        var result = new long[(int) Math.min(length, CHUNK)];
+        for (var index = 0; index < length; ++index) {
+            if (index == result.length) {
+                result = Arrays.copyOf(result, (int) Math.min(length, (long) index << 1));
+            }
+            result[index] = input.readLong();
+        }
+        return result;
+    }
+
+    /**
+     * Построитель {@linkplain CompatibilityMatrix матрицы совместимости}.
+     * <p>
+     * Правила применяются сразу и по порядку: каждое правило разрешает или запрещает свои пары версий, поэтому более
+     * позднее правило переопределяет более раннее. Например, можно разрешить все версии с одинаковым главным номером,
+     * а затем запретить отдельные пары.
+     *
+     * @see CompatibilityMatrix#builder(VersionSet, VersionSet)
+     * @since 1.0.0-RC2
+     */
+    public static final class Builder {
+
+        /**
+         * Отсортированные упакованные версии клиентов.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final long[] clients;
+
+        /**
+         * Отсортированные упакованные версии серверов.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final long[] servers;
+
+        /**
+         * Битовая таблица совместимости по строкам.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final long[] bits;
+
+        private Builder(final @NotNull long[] clients, final @NotNull long[] servers) {
+            this.clients = clients;
+            this.servers = servers;
+            this.bits = new long[words(clients.length, servers.length)];
+        }
+
+        /**
+         * Разрешает все пары версий с одинаковым главным номером.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> this")
+        public @NotNull Builder sameMajor() {
+            for (var row = 0; row < clients.length; ++row) {
+                final var major = Version.major(clients[row]);
+                fill(row, Version.pack(major, 0), Version.pack(major, Integer.MAX_VALUE), true);
+            }
+            return this;
+        }
+
+        /**
+         * Разрешает все пары версий с одинаковым главным номером, в которых второстепенный номер сервера меньше
+         * второстепенного номера клиента не более чем на {@code older} и больше не более чем на {@code newer}.
+         *
+         * @param older наибольшее отставание сервера.
+         * @param newer наибольшее опережение сервера.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder minorWindow(final @Range(from = 0, to = Integer.MAX_VALUE) int older,
+                                            final @Range(from = 0, to = Integer.MAX_VALUE) int newer) {
+            if (older < 0 || newer < 0) {
+                throw new IllegalArgumentException("The passed window cannot be negative");
+            }
+            for (var row = 0; row < clients.length; ++row) {
+                final var major = Version.major(clients[row]);
+                final var minor = Version.minor(clients[row]);
+                fill(row, Version.pack(major, Math.max(0, minor - older)),
+                     Version.pack(major, (int) Math.min(Integer.MAX_VALUE, (long) minor + newer)), true);
+            }
+            return this;
+        }
+
+        /**
+         * Разрешает все пары версий клиентов и серверов, удовлетворяющих переданным ограничениям.
+         *
+         * @param clients ограничение версий клиентов.
+         * @param servers ограничение версий серверов.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #deny(VersionRange, VersionRange)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Builder allow(final @NotNull VersionRange clients, final @NotNull VersionRange servers)
+                throws NullException {
+            return apply(clients, servers, true);
+        }
+
+        /**
+         * Запрещает все пары версий клиентов и серверов, удовлетворяющих переданным ограничениям.
+         *
+         * @param clients ограничение версий клиентов.
+         * @param servers ограничение версий серверов.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #allow(VersionRange, VersionRange)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Builder deny(final @NotNull VersionRange clients, final @NotNull VersionRange servers)
+                throws NullException {
+            return apply(clients, servers, false);
+        }
+
+        /**
+         * Разрешает переданную пару версий клиента и сервера.
+         *
+         * @param client версия клиента.
+         * @param server версия сервера.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #deny(SingleVersion, SingleVersion)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Builder allow(final @NotNull SingleVersion client, final @NotNull SingleVersion server)
+                throws NullException {
+            return set(client, server, true);
+        }
+
+        /**
+         * Запрещает переданную пару версий клиента и сервера.
+         *
+         * @param client версия клиента.
+         * @param server версия сервера.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #allow(SingleVersion, SingleVersion)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Builder deny(final @NotNull SingleVersion client, final @NotNull SingleVersion server)
+                throws NullException {
+            return set(client, server, false);
+        }
+
+        /**
+         * Создаёт и возвращает матрицу с текущими правилами. Построитель можно использовать и после этого.
+         *
+         * @return Матрицу совместимости.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> new")
+        public @NotNull CompatibilityMatrix build() {
+            return new CompatibilityMatrix(clients, servers, bits.clone());
+        }
+
+        /**
+         * Разрешает или запрещает все пары версий, удовлетворяющих переданным ограничениям.
+         *
+         * @param clients ограничение версий клиентов.
+         * @param servers ограничение версий серверов.
+         * @param value разрешение или запрет.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @NotNull Builder apply(final @NotNull VersionRange clients, final @NotNull VersionRange servers,
+                                       final boolean value) throws NullException {
+            Validator.notNull(clients, "The passed clients");
+            Validator.notNull(servers, "The passed servers");
+            for (var row = 0; row < this.clients.length; ++row) {
+                if (clients.matches(this.clients[row])) {
+                    for (var interval = 0; interval < servers.intervals(); ++interval) {
+                        final var end = servers.end(interval);
+                        if (end > servers.start(interval)) {
+                            fill(row, servers.start(interval), end - 1, value);
+                        }
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Разрешает или запрещает переданную пару версий.
+         *
+         * @param client версия клиента.
+         * @param server версия сервера.
+         * @param value разрешение или запрет.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @NotNull Builder set(final @NotNull SingleVersion client, final @NotNull SingleVersion server,
+                                     final boolean value) throws NullException {
+            final var row = Arrays.binarySearch(clients, Validator.notNull(client, "The passed client").pack());
+            if (row < 0) {
+                throw new IllegalArgumentException("The passed client is not in the matrix");
+            }
+            final var column = Arrays.binarySearch(servers, Validator.notNull(server, "The passed server").pack());
+            if (column < 0) {
+                throw new IllegalArgumentException("The passed server is not in the matrix");
+            }
+            final var bit = (long) row * servers.length + column;
+            fill(bit, bit + 1, value);
+            return this;
+        }
+
+        /**
+         * Разрешает или запрещает переданной версии клиента все версии серверов в переданном отрезке.
+         *
+         * @param row номер версии клиента.
+         * @param from наименьшая упакованная версия сервера.
+         * @param to наибольшая упакованная версия сервера (включительно).
+         * @param value разрешение или запрет.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void fill(final int row, final long from, final long to, final boolean value) {
+            final var first = lowerBound(from);
+            final var last = to == Long.MAX_VALUE ? servers.length : lowerBound(to + 1);
+            if (first < last) {
+                final var offset = (long) row * servers.length;
+                fill(offset + first, offset + last, value);
+            }
+        }
+
+        /**
+         * Устанавливает или сбрасывает биты таблицы в переданном полуинтервале.
+         *
+         * @param from начальный бит.
+         * @param to конечный бит (исключительно).
+         * @param value установка или сброс.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void fill(final long from, final long to, final boolean value) {
+            final var first = (int) (from >>> 6);
+            final var last = (int) (to - 1 >>> 6);
+            for (var word = first; word <= last; ++word) {
+                var mask = -1L;
+                if (word == first) {
+                    mask &= -1L << from;
+                }
+                if (word == last) {
+                    mask &= -1L >>> -to;
+                }
+                bits[word] = value ? bits[word] | mask : bits[word] & ~mask;
+            }
+        }
+
+        /**
+         * Возвращает номер первой версии сервера, не меньшей переданной упакованной версии.
+         *
+         * @param version упакованная версия.
+         *
+         * @return Номер версии сервера.
+         *
+         * @since 1.0.0-RC2
+         */
+        private int lowerBound(final long version) {
+            final var index = Arrays.binarySearch(servers, version);
+            return index < 0 ? -index - 1 : index;
+        }
+
+    }
+
+}
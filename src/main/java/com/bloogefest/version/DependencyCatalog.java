@@ -0,0 +1,225 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Этот интерфейс описывает каталог модулей: доступные версии каждого модуля и ограничения, которые каждая версия
+ * накладывает на версии других модулей.
+ * <p>
+ * Каждый модуль имеет {@linkplain #revision(String) ревизию}, которая изменяется при любом изменении его версий или
+ * зависимостей. {@linkplain DependencyResolver Разрешитель зависимостей} сравнивает ревизии, чтобы повторно разрешать
+ * только затронутые изменениями части графа.
+ *
+ * @see Impl
+ * @see DependencyResolver
+ * @since 1.0.0-RC2
+ */
+public interface DependencyCatalog {
+
+    /**
+     * Возвращает множество доступных версий переданного модуля. Для неизвестного модуля возвращается пустое множество.
+     *
+     * @param module название модуля.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    @NotNull VersionSet versions(final @NotNull String module) throws NullException;
+
+    /**
+     * Возвращает ограничения, которые переданная версия переданного модуля накладывает на другие модули. Для
+     * неизвестной версии возвращается пустое отображение.
+     *
+     * @param module название модуля.
+     * @param version упакованная версия модуля.
+     *
+     * @return Неизменяемое отображение названий модулей на ограничения.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    @NotNull Map<String, VersionRange> dependencies(final @NotNull String module, final long version)
+            throws NullException;
+
+    /**
+     * Возвращает ревизию переданного модуля.
+     *
+     * @param module название модуля.
+     *
+     * @return Ревизия модуля.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    long revision(final @NotNull String module) throws NullException;
+
+    /**
+     * Встроенная реализация, хранящая каталог в памяти.
+     * <p>
+     * Реализация потокобезопасна: сведения о каждом модуле хранятся в неизменяемом виде и заменяются атомарно, а
+     * ревизии выдаются из общего счётчика и потому не повторяются.
+     *
+     * @see DependencyCatalog
+     * @since 1.0.0-RC2
+     */
+    final class Impl implements DependencyCatalog {
+
+        /**
+         * Счётчик ревизий.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final AtomicLong revisions = new AtomicLong();
+
+        /**
+         * Сведения о модулях.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final Map<String, Module> modules = new ConcurrentHashMap<>();
+
+        /**
+         * Создаёт пустой каталог.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Impl() {
+        }
+
+        /**
+         * Добавляет переданную версию переданного модуля без зависимостей.
+         *
+         * @param module название модуля.
+         * @param version версия модуля.
+         *
+         * @return Текущий каталог.
+         *
+         * @see #add(String, SingleVersion, Map)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Impl add(final @NotNull String module, final @NotNull SingleVersion version)
+                throws NullException {
+            return add(module, version, Map.of());
+        }
+
+        /**
+         * Добавляет переданную версию переданного модуля с переданными зависимостями или заменяет зависимости уже
+         * добавленной версии.
+         *
+         * @param module название модуля.
+         * @param version версия модуля.
+         * @param dependencies отображение названий модулей на ограничения.
+         *
+         * @return Текущий каталог.
+         *
+         * @see #remove(String, SingleVersion)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null, !null -> this; _, _, _ -> fail")
+        public @NotNull Impl add(final @NotNull String module, final @NotNull SingleVersion version,
+                                 final @NotNull Map<String, VersionRange> dependencies) throws NullException {
+            Validator.notNull(module, "The passed module");
+            final var packed = Validator.notNull(version, "The passed version").pack();
+            final var copy = Map.copyOf(Validator.notNull(dependencies, "The passed dependencies"));
+            modules.compute(module, (key, current) -> {
+                final var versions = current == null ? VersionSet.ofSorted(new long[0]) : current.versions;
+                final var edges = current == null ? new HashMap<Long, Map<String, VersionRange>>()
+                                                  : new HashMap<>(current.dependencies);
+                edges.put(packed, copy);
+                return new Module(versions.with(packed), Map.copyOf(edges), revisions.incrementAndGet());
+            });
+            return this;
+        }
+
+        /**
+         * Удаляет переданную версию переданного модуля.
+         *
+         * @param module название модуля.
+         * @param version версия модуля.
+         *
+         * @return Текущий каталог.
+         *
+         * @see #add(String, SingleVersion, Map)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Impl remove(final @NotNull String module, final @NotNull SingleVersion version)
+                throws NullException {
+            Validator.notNull(module, "The passed module");
+            final var packed = Validator.notNull(version, "The passed version").pack();
+            modules.computeIfPresent(module, (key, current) -> {
+                if (!current.versions.contains(packed)) {
+                    return current;
+                }
+                final var edges = new HashMap<>(current.dependencies);
+                edges.remove(packed);
+                return new Module(current.versions.without(packed), Map.copyOf(edges), revisions.incrementAndGet());
+            });
+            return this;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("!null -> _; _ -> fail")
+        public @NotNull VersionSet versions(final @NotNull String module) throws NullException {
+            final var current = modules.get(Validator.notNull(module, "The passed module"));
+            return current == null ? VersionSet.ofSorted(new long[0]) : current.versions;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("!null, _ -> _; _, _ -> fail")
+        public @NotNull Map<String, VersionRange> dependencies(final @NotNull String module, final long version)
+                throws NullException {
+            final var current = modules.get(Validator.notNull(module, "The passed module"));
+            return current == null ? Map.of() : current.dependencies.getOrDefault(version, Map.of());
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("!null -> _; _ -> fail")
+        public long revision(final @NotNull String module) throws NullException {
+            final var current = modules.get(Validator.notNull(module, "The passed module"));
+            return current == null ? 0 : current.revision;
+        }
+
+        /**
+         * Неизменяемые сведения о модуле.
+         *
+         * @param versions доступные версии.
+         * @param dependencies зависимости каждой версии.
+         * @param revision ревизия.
+         *
+         * @since 1.0.0-RC2
+         */
+        private record Module(@NotNull VersionSet versions, @NotNull Map<Long, Map<String, VersionRange>> dependencies,
+                              long revision) {
+
+        }
+
+    }
+
+}
@@ -0,0 +1,428 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Разрешитель зависимостей, выбирающий для каждого требуемого модуля одну версию так, чтобы выполнялись все
+ * ограничения требований и выбранных версий.
+ * <p>
+ * Поиск перебирает версии каждого модуля от новых к старым с возвратом при конфликте, поэтому из нескольких
+ * согласованных выборов предпочитается выбор с более новыми версиями модулей, рассмотренных раньше.
+ * <p>
+ * Разрешитель запоминает решения подзадач: для модуля и ограничения на него сохраняется выбор версий модуля и всех его
+ * транзитивных зависимостей вместе с {@linkplain DependencyCatalog#revision(String) ревизиями} всех модулей,
+ * прочитанных при поиске, включая отвергнутые варианты. Запомненное решение используется, пока эти ревизии не
+ * изменились, поэтому после изменения одного модуля заново решаются только подзадачи, при решении которых он был
+ * прочитан. Разрешитель потокобезопасен.
+ *
+ * @see DependencyCatalog
+ * @see VersionRange
+ * @since 1.0.0-RC2
+ */
+public final class DependencyResolver {
+
+    /**
+     * Каталог модулей.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final DependencyCatalog catalog;
+
+    /**
+     * Запомненные частичные результаты.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final Map<Edge, Solution> memo = new ConcurrentHashMap<>();
+
+    /**
+     * Создаёт разрешитель на основе переданного каталога.
+     *
+     * @param catalog каталог модулей.
+     *
+     * @since 1.0.0-RC2
+     */
+    public DependencyResolver(final @NotNull DependencyCatalog catalog) throws NullException {
+        this.catalog = Validator.notNull(catalog, "The passed catalog");
+    }
+
+    /**
+     * Выбирает и возвращает версии модулей, удовлетворяющие переданным требованиям и зависимостям выбранных версий.
+     *
+     * @param requirements отображение названий модулей на ограничения.
+     *
+     * @return Неизменяемое отображение названий модулей на выбранные версии, отсортированное по названиям.
+     *
+     * @see #tryResolve(Map)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull Map<String, DoubleVersion> resolve(final @NotNull Map<String, VersionRange> requirements)
+            throws NullException, VersionConflictException {
+        final var result = tryResolve(requirements);
+        if (result == null) {
+            throw new VersionConflictException("The passed requirements cannot be satisfied");
+        }
+        return result;
+    }
+
+    /**
+     * Выбирает и возвращает версии модулей, удовлетворяющие переданным требованиям и зависимостям выбранных версий,
+     * или {@code null}, если таких версий нет.
+     *
+     * @param requirements отображение названий модулей на ограничения.
+     *
+     * @return Неизменяемое отображение названий модулей на выбранные версии или {@code null}.
+     *
+     * @see #resolve(Map)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable Map<String, DoubleVersion> tryResolve(final @NotNull Map<String, VersionRange> requirements)
+            throws NullException {
+        var state = new State(new HashMap<>());
+        for (final var requirement : Validator.notNull(requirements, "The passed requirements").entrySet()) {
+            state = state == null ? null : state.constrain(requirement.getKey(), requirement.getValue());
+        }
+        final var solved = state == null ? null : solve(state, new HashSet<>());
+        if (solved == null) {
+            return null;
+        }
+        final var result = new TreeMap<String, DoubleVersion>();
+        for (final var entry : solved.selected.entrySet()) {
+            result.put(entry.getKey(), Version.unpack(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Забывает все запомненные частичные результаты.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void clear() {
+        memo.clear();
+    }
+
+    /**
+     * Продолжает поиск из переданного состояния.
+     * <p>
+     * Для первого модуля без выбранной версии сначала решается отдельная подзадача: модуль с текущим ограничением на
+     * него и его транзитивные зависимости. Если у подзадачи нет решения, то его нет и в текущем состоянии, в противном
+     * случае её решение подставляется целиком. Если подставленное решение противоречит состоянию, то версии модуля
+     * перебираются от новых к старым.
+     *
+     * @param state состояние поиска.
+     * @param solving решаемые подзадачи, решения которых ещё не известны.
+     *
+     * @return Состояние, в котором выбраны версии всех модулей, или {@code null}, если его нет.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @Nullable State solve(final @NotNull State state, final @NotNull Set<Edge> solving)
+            throws NullException {
+        final var module = state.pending();
+        if (module == null) {
+            return state;
+        }
+        final var range = state.constraints.get(module);
+        final var edge = new Edge(module, range);
+        if (!solving.contains(edge)) {
+            final var solution = subproblem(edge, solving);
+            for (final var revision : solution.revisions.entrySet()) {
+                state.touched.putIfAbsent(revision.getKey(), revision.getValue());
+            }
+            if (solution.selection == null) {
+                return null;
+            }
+            final var merged = state.merge(solution.selection);
+            final var solved = merged == null ? null : solve(merged, solving);
+            if (solved != null) {
+                return solved;
+            }
+        }
+        state.touch(module);
+        final var versions = catalog.versions(module);
+        for (var interval = range.intervals() - 1; interval >= 0; --interval) {
+            final var matching = versions.subSet(range.start(interval), true, range.end(interval), false);
+            for (var index = matching.size() - 1; index >= 0; --index) {
+                final var next = state.select(module, matching.packed(index));
+                final var solved = next == null ? null : solve(next, solving);
+                if (solved != null) {
+                    return solved;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Возвращает решение переданной подзадачи: запомненное, если ревизии прочитанных при его поиске модулей не
+     * изменились, или найденное заново.
+     *
+     * @param edge подзадача.
+     * @param solving решаемые подзадачи, решения которых ещё не известны.
+     *
+     * @return Решение подзадачи.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @NotNull Solution subproblem(final @NotNull Edge edge, final @NotNull Set<Edge> solving)
+            throws NullException {
+        final var cached = memo.get(edge);
+        if (cached != null && cached.valid(catalog)) {
+            return cached;
+        }
+        final var state = new State(new HashMap<>()).constrain(edge.module, edge.range);
+        solving.add(edge);
+        final var solved = state == null ? null : solve(state, solving);
+        solving.remove(edge);
+        final var touched = state == null ? Map.<String, Long>of() : Map.copyOf(state.touched);
+        final var solution = new Solution(solved == null ? null : Map.copyOf(solved.selected), touched);
+        memo.put(edge, solution);
+        return solution;
+    }
+
+    /**
+     * Подзадача: модуль и ограничение на него.
+     *
+     * @param module название модуля.
+     * @param range ограничение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private record Edge(@NotNull String module, @NotNull VersionRange range) {
+
+    }
+
+    /**
+     * Решение подзадачи: выбор версий модуля и его транзитивных зависимостей или {@code null}, если решения нет, и
+     * ревизии всех модулей, прочитанных при поиске решения, включая отвергнутые варианты.
+     *
+     * @param selection отображение названий модулей на упакованные версии или {@code null}.
+     * @param revisions отображение названий модулей на ревизии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private record Solution(@Nullable Map<String, Long> selection, @NotNull Map<String, Long> revisions) {
+
+        /**
+         * Возвращает истинное значение, если ревизии всех прочитанных модулей не изменились, в противном случае —
+         * ложное значение.
+         *
+         * @param catalog каталог модулей.
+         *
+         * @return Истинное или ложное значение.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean valid(final @NotNull DependencyCatalog catalog) throws NullException {
+            for (final var revision : revisions.entrySet()) {
+                if (catalog.revision(revision.getKey()) != revision.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Состояние поиска: ограничения на модули, выбранные версии и ревизии прочитанных модулей. Ограничения и выбранные
+     * версии не изменяются после создания состояния, а ревизии общие для всех состояний одного поиска.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final class State {
+
+        /**
+         * Ограничения на модули в порядке их появления.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final LinkedHashMap<String, VersionRange> constraints;
+
+        /**
+         * Выбранные упакованные версии модулей.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final HashMap<String, Long> selected;
+
+        /**
+         * Ревизии прочитанных модулей.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final HashMap<String, Long> touched;
+
+        private State(final @NotNull HashMap<String, Long> touched) {
+            this.constraints = new LinkedHashMap<>();
+            this.selected = new HashMap<>();
+            this.touched = touched;
+        }
+
+        private State(final @NotNull State state) {
+            this.constraints = new LinkedHashMap<>(state.constraints);
+            this.selected = new HashMap<>(state.selected);
+            this.touched = state.touched;
+        }
+
+        /**
+         * Запоминает ревизию переданного модуля, если он ещё не прочитан. Ревизия читается до сведений о модуле,
+         * поэтому параллельное изменение каталога делает решение недействительным, а не устаревшим.
+         *
+         * @param module название модуля.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void touch(final @NotNull String module) throws NullException {
+            if (!touched.containsKey(module)) {
+                touched.put(module, catalog.revision(module));
+            }
+        }
+
+        /**
+         * Возвращает первый модуль, на который есть ограничение, но версия которого не выбрана, или {@code null},
+         * если таких модулей нет.
+         *
+         * @return Название модуля или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable String pending() {
+            for (final var module : constraints.keySet()) {
+                if (!selected.containsKey(module)) {
+                    return module;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Возвращает новое состояние с дополнительным ограничением на переданный модуль или {@code null}, если
+         * ограничение противоречит текущему состоянию.
+         *
+         * @param module название модуля.
+         * @param range ограничение.
+         *
+         * @return Новое состояние или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable State constrain(final @NotNull String module, final @NotNull VersionRange range)
+                throws NullException {
+            final var next = new State(this);
+            return next.apply(Validator.notNull(module, "The passed module"),
+                              Validator.notNull(range, "The passed range")) ? next : null;
+        }
+
+        /**
+         * Возвращает новое состояние с выбранной переданной версией переданного модуля или {@code null}, если её
+         * зависимости противоречат текущему состоянию.
+         *
+         * @param module название модуля.
+         * @param version упакованная версия.
+         *
+         * @return Новое состояние или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable State select(final @NotNull String module, final long version) throws NullException {
+            final var next = new State(this);
+            return next.choose(module, version) ? next : null;
+        }
+
+        /**
+         * Возвращает новое состояние с подставленными переданными версиями или {@code null}, если они противоречат
+         * текущему состоянию.
+         *
+         * @param selection отображение названий модулей на упакованные версии.
+         *
+         * @return Новое состояние или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable State merge(final @NotNull Map<String, Long> selection) throws NullException {
+            final var next = new State(this);
+            for (final var entry : selection.entrySet()) {
+                if (!next.choose(entry.getKey(), entry.getValue())) {
+                    return null;
+                }
+            }
+            return next;
+        }
+
+        /**
+         * Выбирает переданную версию переданного модуля и добавляет её зависимости в текущее состояние.
+         *
+         * @param module название модуля.
+         * @param version упакованная версия.
+         *
+         * @return Истинное значение, если выбор не противоречит состоянию, в противном случае — ложное значение.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean choose(final @NotNull String module, final long version) throws NullException {
+            final var current = selected.putIfAbsent(module, version);
+            if (current != null) {
+                return current == version;
+            }
+            final var range = constraints.get(module);
+            if (range != null && !range.matches(version)) {
+                return false;
+            }
+            constraints.putIfAbsent(module, VersionRange.all());
+            touch(module);
+            for (final var dependency : catalog.dependencies(module, version).entrySet()) {
+                if (!apply(dependency.getKey(), dependency.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Добавляет переданное ограничение на переданный модуль в текущее состояние.
+         *
+         * @param module название модуля.
+         * @param range ограничение.
+         *
+         * @return Истинное значение, если ограничение не противоречит состоянию, в противном случае — ложное
+         * значение.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean apply(final @NotNull String module, final @NotNull VersionRange range) throws NullException {
+            final var current = constraints.get(module);
+            final var combined = current == null ? range : current.intersection(range);
+            if (combined.isEmpty()) {
+                return false;
+            }
+            constraints.put(module, combined);
+            final var version = selected.get(module);
+            return version == null || combined.matches(version);
+        }
+
+    }
+
+}
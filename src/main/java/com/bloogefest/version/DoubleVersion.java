@@ -26,7 +26,6 @@ package com.bloogefest.version;
 
 import com.bloogefest.annotation.Contract;
 import com.bloogefest.annotation.NotNull;
-import com.bloogefest.annotation.Nullable;
 import com.bloogefest.annotation.Range;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
@@ -42,8 +41,10 @@ import com.bloogefest.common.validation.Validator;
 public interface DoubleVersion extends SingleVersion {
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(int) встроенную реализацию на основе переданного главного номера версии}.
+     * Возвращает канонический экземпляр
+     * {@linkplain Impl#Impl(int) встроенной реализации на основе переданного главного номера версии}.
+     * <p>
+     * Часто используемые версии кешируются, поэтому повторные вызовы, как правило, возвращают тот же экземпляр.
      *
      * @param major главный номер версии.
      *
@@ -56,13 +57,15 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("-> const")
     static @NotNull DoubleVersion of(final @Range(from = 0, to = Integer.MAX_VALUE) int major) {
-        return new Impl(major);
+        return VersionCache.doubled(major, 0);
     }
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(int, int) встроенную реализацию на основе переданного главного и второстепенного номеров
+     * Возвращает канонический экземпляр
+     * {@linkplain Impl#Impl(int, int) встроенной реализации на основе переданного главного и второстепенного номеров
      * версии}.
+     * <p>
+     * Часто используемые версии кешируются, поэтому повторные вызовы, как правило, возвращают тот же экземпляр.
      *
      * @param major главный номер версии.
      *
@@ -77,7 +80,7 @@ public interface DoubleVersion extends SingleVersion {
     @Contract("-> const")
     static @NotNull DoubleVersion of(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
                                      final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
-        return new Impl(major, minor);
+        return VersionCache.doubled(major, minor);
     }
 
     /**
@@ -90,6 +93,21 @@ public interface DoubleVersion extends SingleVersion {
     @Contract("-> const")
     @Range(from = 0, to = Integer.MAX_VALUE) int minor();
 
+    /**
+     * Возвращает {@linkplain Version#pack(int, int) упакованную версию}.
+     *
+     * @return {@linkplain Version#pack(int, int) Упакованную версию}.
+     *
+     * @see Version#pack(int, int)
+     * @see Version#unpack(long)
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> const")
+    default @Range(from = 0, to = Long.MAX_VALUE) long pack() {
+        return Version.pack(major(), minor());
+    }
+
     /**
      * Возвращает истинное значение, если переданная версия двойного формата новее текущей, в противном случае — ложное
      * значение.
@@ -110,8 +128,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean newer(final @NotNull DoubleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version").major() > major() ||
-               version.major() == major() && version.minor() > minor();
+        return compareTo(Validator.notNull(version, "The passed version")) < 0;
     }
 
     /**
@@ -134,8 +151,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean newer(final @NotNull SingleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && older(version_) ||
-               version.major() > major();
+        return compareTo(Validator.notNull(version, "The passed version")) < 0;
     }
 
     /**
@@ -159,8 +175,8 @@ public interface DoubleVersion extends SingleVersion {
     @Override
     @Contract("!null -> _; _ -> fail")
     default boolean newer(final @NotNull Version version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && newer(version_) ||
-               version instanceof SingleVersion version__ && newer(version__);
+        return Validator.notNull(version, "The passed version") instanceof SingleVersion version_ &&
+               compareTo(version_) < 0;
     }
 
     /**
@@ -183,7 +199,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean same(final @NotNull DoubleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version").major() == major() && version.minor() == minor();
+        return compareTo(Validator.notNull(version, "The passed version")) == 0;
     }
 
     /**
@@ -206,8 +222,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean same(final @NotNull SingleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && same(version_) ||
-               minor() == 0 && version.major() == major();
+        return compareTo(Validator.notNull(version, "The passed version")) == 0;
     }
 
     /**
@@ -231,8 +246,8 @@ public interface DoubleVersion extends SingleVersion {
     @Override
     @Contract("!null -> _; _ -> fail")
     default boolean same(final @NotNull Version version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && same(version_) ||
-               version instanceof SingleVersion version__ && same(version__);
+        return Validator.notNull(version, "The passed version") instanceof SingleVersion version_ &&
+               compareTo(version_) == 0;
     }
 
     /**
@@ -255,8 +270,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean older(final @NotNull DoubleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version").major() < major() ||
-               version.major() == major() && version.minor() < minor();
+        return compareTo(Validator.notNull(version, "The passed version")) > 0;
     }
 
     /**
@@ -279,8 +293,7 @@ public interface DoubleVersion extends SingleVersion {
      */
     @Contract("!null -> _; _ -> fail")
     default boolean older(final @NotNull SingleVersion version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && older(version_) ||
-               version.major() < major();
+        return compareTo(Validator.notNull(version, "The passed version")) > 0;
     }
 
     /**
@@ -305,8 +318,8 @@ public interface DoubleVersion extends SingleVersion {
     @Override
     @Contract("!null -> _; _ -> fail")
     default boolean older(final @NotNull Version version) throws NullException {
-        return Validator.notNull(version, "The passed version") instanceof DoubleVersion version_ && older(version_) ||
-               version instanceof SingleVersion version__ && older(version__);
+        return Validator.notNull(version, "The passed version") instanceof SingleVersion version_ &&
+               compareTo(version_) > 0;
     }
 
     /**
@@ -317,7 +330,8 @@ public interface DoubleVersion extends SingleVersion {
      * @see #Impl(int, int)
      * @since 1.0.0-RC1
      */
-    class Impl extends SingleVersion.Impl implements DoubleVersion {
+    sealed class Impl extends SingleVersion.Impl implements DoubleVersion
+            permits MultiVersion.Impl, VersionCache.CachedDouble {
 
         /**
          * Второстепенный номер версии.
@@ -365,23 +379,16 @@ public interface DoubleVersion extends SingleVersion {
         }
 
         /**
-         * @since 1.0.0-RC1
-         */
-        @Override
-        @Contract("!null -> _; _ -> false")
-        public boolean equals(final @Nullable Object object) {
-            return object == this ||
-                   object instanceof DoubleVersion version && version.major() == major && version.minor() == minor ||
-                   minor == 0 && object instanceof SingleVersion version_ && version_.major() == major;
-        }
-
-        /**
-         * @since 1.0.0-RC1
+         * Возвращает {@linkplain Version#pack(int, int) упакованную версию}.
+         *
+         * @return {@linkplain Version#pack(int, int) Упакованную версию}.
+         *
+         * @since 1.0.0-RC2
          */
         @Override
         @Contract("-> const")
-        public @Range(from = 0, to = Integer.MAX_VALUE) int hashCode() {
-            return 31 * super.hashCode() + minor;
+        public @Range(from = 0, to = Long.MAX_VALUE) long pack() {
+            return (long) major << 32 | minor;
         }
 
         /**
@@ -390,7 +397,7 @@ public interface DoubleVersion extends SingleVersion {
         @Override
         @Contract("-> const")
         public @NotNull String toString() {
-            return super.toString() + '.' + minor;
+            return VersionFormatter.format(this, new StringBuilder(formatLength())).toString();
         }
 
     }
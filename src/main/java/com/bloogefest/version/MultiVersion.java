@@ -0,0 +1,372 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+
+/**
+ * Этот интерфейс содержит методы, применимые к многокомпонентному формату версий
+ * {@code major.minor[.…][-pre][+build]}.
+ * <p>
+ * Недостающие номера версии считаются нулевыми, поэтому версия {@code 1.2.0.0} такая же, как и {@code 1.2}. Версия с
+ * предварительной меткой старее такой же версии без неё, а метки сборки при сравнении не учитываются.
+ * {@linkplain #pack() Упакованная версия} содержит лишь главный и второстепенный номера.
+ *
+ * @see Impl
+ * @see TripleVersion
+ * @see #of(int...)
+ * @see #parse(CharSequence)
+ * @since 1.0.0-RC2
+ */
+public interface MultiVersion extends DoubleVersion {
+
+    /**
+     * Создаёт и возвращает
+     * {@linkplain Impl#Impl(int[], String, String) встроенную реализацию на основе переданных номеров версии}.
+     *
+     * @param components номера версии.
+     *
+     * @return {@linkplain Impl#Impl(int[], String, String) Встроенную реализацию}.
+     *
+     * @see #of(int[], String, String)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    static @NotNull MultiVersion of(final @NotNull int... components) throws NullException {
+        return of(components, null, null);
+    }
+
+    /**
+     * Создаёт и возвращает
+     * {@linkplain Impl#Impl(int[], String, String) встроенную реализацию на основе переданных номеров версии,
+     * предварительной метки и метки сборки}. Для трёх номеров возвращается {@linkplain TripleVersion версия тройного
+     * формата}.
+     *
+     * @param components номера версии.
+     * @param preRelease предварительная метка или {@code null}.
+     * @param build метка сборки или {@code null}.
+     *
+     * @return {@linkplain Impl#Impl(int[], String, String) Встроенную реализацию}.
+     *
+     * @see #of(int...)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> new; _, _, _ -> fail")
+    static @NotNull MultiVersion of(final @NotNull int[] components, final @Nullable String preRelease,
+                                    final @Nullable String build) throws NullException, VersionFormatException {
+        VersionTelemetry.METRICS.created();
+        return Validator.notNull(components, "The passed components").length == 3
+               ? new TripleVersion.Impl(components[0], components[1], components[2], preRelease, build)
+               : new Impl(components, preRelease, build);
+    }
+
+    /**
+     * Разбирает и возвращает многокомпонентную версию из переданной последовательности символов. Для трёх номеров
+     * возвращается {@linkplain TripleVersion версия тройного формата}.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor][.…][-pre][+build]}.
+     *
+     * @return Многокомпонентную версию.
+     *
+     * @see #tryParse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    static @NotNull MultiVersion parse(final @NotNull CharSequence sequence)
+            throws NullException, VersionFormatException {
+        final var version = VersionParser.multi(Validator.notNull(sequence, "The passed sequence"));
+        if (version == null) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return version;
+    }
+
+    /**
+     * Разбирает и возвращает многокомпонентную версию из переданной последовательности символов или {@code null}, если
+     * последовательность не является версией.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor][.…][-pre][+build]}.
+     *
+     * @return Многокомпонентную версию или {@code null}.
+     *
+     * @see #parse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null -> null")
+    static @Nullable MultiVersion tryParse(final @Nullable CharSequence sequence) {
+        return sequence == null ? null : VersionParser.multi(sequence);
+    }
+
+    /**
+     * Возвращает количество номеров версии.
+     *
+     * @return Количество номеров версии.
+     *
+     * @see #component(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    @Range(from = 1, to = Integer.MAX_VALUE) int components();
+
+    /**
+     * Возвращает номер версии по переданному индексу или ноль, если индекс не меньше
+     * {@linkplain #components() количества номеров}.
+     *
+     * @param index индекс номера.
+     *
+     * @return Номер версии.
+     *
+     * @see #components()
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    @Range(from = 0, to = Integer.MAX_VALUE) int component(final @Range(from = 0, to = Integer.MAX_VALUE) int index)
+            throws IndexOutOfBoundsException;
+
+    /**
+     * Возвращает предварительную метку или {@code null}, если её нет.
+     *
+     * @return Предварительную метку или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    @Nullable String preRelease();
+
+    /**
+     * Возвращает метку сборки или {@code null}, если её нет.
+     *
+     * @return Метку сборки или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    @Nullable String build();
+
+    /**
+     * Встроенная реализация.
+     * <p>
+     * Главный и второстепенный номера хранятся в унаследованных полях, третий и четвёртый номера упакованы в
+     * {@linkplain #tail одно значение}, а массив {@link #rest} создаётся, только если номеров больше
+     * четырёх.
+     *
+     * @see MultiVersion
+     * @see #Impl(int[], String, String)
+     * @since 1.0.0-RC2
+     */
+    sealed class Impl extends DoubleVersion.Impl implements MultiVersion permits TripleVersion.Impl {
+
+        /**
+         * Количество номеров версии.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected final @Range(from = 1, to = Integer.MAX_VALUE) int length;
+
+        /**
+         * Третий (в старших 32 битах) и четвёртый (в младших 32 битах) номера версии.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected final long tail;
+
+        /**
+         * Номера версии, начиная с пятого, или {@code null}, если их нет.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected final @Nullable int[] rest;
+
+        /**
+         * Предварительная метка или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected final @Nullable String preRelease;
+
+        /**
+         * Метка сборки или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected final @Nullable String build;
+
+        /**
+         * Создаёт встроенную реализацию на основе переданных номеров версии, предварительной метки и метки сборки.
+         *
+         * @param components номера версии.
+         * @param preRelease предварительная метка или {@code null}.
+         * @param build метка сборки или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Impl(final @NotNull int[] components, final @Nullable String preRelease, final @Nullable String build)
+                throws VersionFormatException {
+            super(at(components, 0), at(components, 1));
+            this.length = components.length;
+            this.tail = (long) at(components, 2) << 32 | at(components, 3);
+            this.rest = components.length > 4 ? Arrays.copyOfRange(components, 4, components.length) : null;
+            for (var index = 4; index < components.length; ++index) {
+                at(components, index);
+            }
+            this.preRelease = label(preRelease, "The passed pre-release");
+            this.build = label(build, "The passed build");
+        }
+
+        /**
+         * Создаёт встроенную реализацию из трёх переданных номеров версии, предварительной метки и метки сборки.
+         *
+         * @param major главный номер версии.
+         * @param minor второстепенный номер версии.
+         * @param patch третий номер версии.
+         * @param preRelease предварительная метка или {@code null}.
+         * @param build метка сборки или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        protected Impl(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                       final @Range(from = 0, to = Integer.MAX_VALUE) int minor,
+                       final @Range(from = 0, to = Integer.MAX_VALUE) int patch, final @Nullable String preRelease,
+                       final @Nullable String build) throws VersionFormatException {
+            super(number(major), number(minor));
+            this.length = 3;
+            this.tail = (long) number(patch) << 32;
+            this.rest = null;
+            this.preRelease = label(preRelease, "The passed pre-release");
+            this.build = label(build, "The passed build");
+        }
+
+        /**
+         * Возвращает {@linkplain #length количество номеров версии}.
+         *
+         * @return {@linkplain #length Количество номеров версии}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @Range(from = 1, to = Integer.MAX_VALUE) int components() {
+            return length;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("_ -> const")
+        public @Range(from = 0, to = Integer.MAX_VALUE) int component(final int index)
+                throws IndexOutOfBoundsException {
+            return switch (index) {
+                case 0 -> major;
+                case 1 -> minor;
+                case 2 -> (int) (tail >>> 32);
+                case 3 -> (int) tail;
+                default -> {
+                    if (index < 0) {
+                        throw new IndexOutOfBoundsException("The passed index cannot be negative");
+                    }
+                    yield rest != null && index - 4 < rest.length ? rest[index - 4] : 0;
+                }
+            };
+        }
+
+        /**
+         * Возвращает {@linkplain #preRelease предварительную метку}.
+         *
+         * @return {@linkplain #preRelease Предварительную метку} или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @Nullable String preRelease() {
+            return preRelease;
+        }
+
+        /**
+         * Возвращает {@linkplain #build метку сборки}.
+         *
+         * @return {@linkplain #build Метку сборки} или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @Nullable String build() {
+            return build;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> new")
+        public @NotNull String toString() {
+            return VersionFormatter.format(this, new StringBuilder(formatLength())).toString();
+        }
+
+        /**
+         * Возвращает номер из переданного массива по переданному индексу или ноль, если индекс выходит за его границы.
+         *
+         * @param components номера версии.
+         * @param index индекс.
+         *
+         * @return Номер версии.
+         *
+         * @since 1.0.0-RC2
+         */
+        private static int at(final @NotNull int[] components, final int index) {
+            if (components.length == 0) {
+                throw new IllegalArgumentException("The passed components cannot be empty");
+            }
+            return index < components.length ? number(components[index]) : 0;
+        }
+
+        /**
+         * Проверяет и возвращает переданный номер версии.
+         *
+         * @param component номер версии.
+         *
+         * @return Переданный номер версии.
+         *
+         * @since 1.0.0-RC2
+         */
+        private static @Range(from = 0, to = Integer.MAX_VALUE) int number(final int component) {
+            if (component < 0) {
+                throw new IllegalArgumentException("The passed components cannot be negative");
+            }
+            return component;
+        }
+
+        /**
+         * Проверяет и возвращает переданную метку.
+         *
+         * @param label метка или {@code null}.
+         * @param name название метки.
+         *
+         * @return Переданную метку.
+         *
+         * @since 1.0.0-RC2
+         */
+        private static @Nullable String label(final @Nullable String label, final @NotNull String name)
+                throws VersionFormatException {
+            if (!VersionParser.label(label)) {
+                throw new VersionFormatException(name + " is not a valid label");
+            }
+            return label;
+        }
+
+    }
+
+}
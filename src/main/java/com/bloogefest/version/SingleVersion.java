@@ -31,6 +31,10 @@ import com.bloogefest.annotation.Range;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * Этот интерфейс содержит методы, применимые к одиночному формату версий.
  *
@@ -38,11 +42,13 @@ import com.bloogefest.common.validation.Validator;
  * @see #of(int)
  * @since 1.0.0-RC1
  */
-public interface SingleVersion extends Version {
+public interface SingleVersion extends Version, Comparable<Version> {
 
     /**
-     * Создаёт и возвращает
-     * {@linkplain Impl#Impl(int) встроенную реализацию на основе переданного главного номера версии}.
+     * Возвращает канонический экземпляр
+     * {@linkplain Impl#Impl(int) встроенной реализации на основе переданного главного номера версии}.
+     * <p>
+     * Часто используемые версии кешируются, поэтому повторные вызовы, как правило, возвращают тот же экземпляр.
      *
      * @param major главный номер версии.
      *
@@ -54,7 +60,7 @@ public interface SingleVersion extends Version {
      */
     @Contract("-> const")
     static @NotNull SingleVersion of(final @Range(from = 0, to = Integer.MAX_VALUE) int major) {
-        return new Impl(major);
+        return VersionCache.single(major);
     }
 
     /**
@@ -67,6 +73,139 @@ public interface SingleVersion extends Version {
     @Contract("-> const")
     @Range(from = 0, to = Integer.MAX_VALUE) int major();
 
+    /**
+     * Возвращает {@linkplain Version#pack(int, int) упакованную версию} с нулевым второстепенным номером.
+     *
+     * @return {@linkplain Version#pack(int, int) Упакованную версию}.
+     *
+     * @see Version#pack(int, int)
+     * @see Version#unpack(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    default @Range(from = 0, to = Long.MAX_VALUE) long pack() {
+        return Version.pack(major(), 0);
+    }
+
+    /**
+     * Сравнивает текущую версию с переданной за один проход по
+     * {@linkplain #pack() упакованным версиям}.
+     * <p>
+     * Недостающие номера версии считаются нулевыми, поэтому версия одиночного формата сравнивается как версия двойного
+     * формата с нулевым второстепенным номером, а сравнение согласовано с {@link DoubleVersion#same(SingleVersion)} и
+     * {@link Object#equals(Object)} встроенных реализаций. Номера {@linkplain MultiVersion многокомпонентных версий},
+     * не вошедшие в упакованную версию, и их предварительные метки сравниваются, только если упакованные версии
+     * совпадают.
+     *
+     * @param version версия одиночного или двойного формата.
+     *
+     * @return Отрицательное число, ноль или положительное число, если текущая версия соответственно старее, такая же
+     * или новее переданной.
+     *
+     * @see Version#compare(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("!null -> _; _ -> fail")
+    default int compareTo(final @NotNull Version version) {
+        if (version instanceof SingleVersion version_) {
+            return VersionComparison.compare(this, version_);
+        }
+        if (version == null) {
+            throw new NullPointerException("The passed version cannot be null");
+        }
+        throw new ClassCastException("The passed version cannot be compared with a single version");
+    }
+
+    /**
+     * Возвращает количество символов {@linkplain Object#toString() текстового представления} текущей версии.
+     *
+     * @return Количество символов.
+     *
+     * @see #formatTo(byte[], int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    default @Range(from = 1, to = Integer.MAX_VALUE) int formatLength() {
+        return VersionFormatter.length(this);
+    }
+
+    /**
+     * Записывает {@linkplain Object#toString() текстовое представление} текущей версии в переданный построитель строк
+     * без создания промежуточных строк.
+     *
+     * @param builder построитель строк.
+     *
+     * @return Переданный построитель строк.
+     *
+     * @see #formatTo(Appendable)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    default @NotNull StringBuilder formatTo(final @NotNull StringBuilder builder) throws NullException {
+        return VersionFormatter.format(this, Validator.notNull(builder, "The passed builder"));
+    }
+
+    /**
+     * Записывает {@linkplain Object#toString() текстовое представление} текущей версии в переданный приёмник символов
+     * без создания промежуточных строк.
+     *
+     * @param appendable приёмник символов.
+     *
+     * @return Переданный приёмник символов.
+     *
+     * @see #formatTo(StringBuilder)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    default @NotNull Appendable formatTo(final @NotNull Appendable appendable) throws NullException, IOException {
+        return VersionFormatter.format(this, Validator.notNull(appendable, "The passed appendable"));
+    }
+
+    /**
+     * Записывает {@linkplain Object#toString() текстовое представление} текущей версии в кодировке ASCII в переданный
+     * массив байтов.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return {@linkplain #formatLength() Количество записанных байтов}.
+     *
+     * @see #formatTo(ByteBuffer, int)
+     * @see Version#parse(byte[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    default @Range(from = 1, to = Integer.MAX_VALUE) int formatTo(final @NotNull byte[] bytes, final int offset)
+            throws NullException, IndexOutOfBoundsException {
+        final var length = formatLength();
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(bytes, "The passed bytes").length);
+        VersionFormatter.format(this, bytes, offset);
+        return length;
+    }
+
+    /**
+     * Записывает {@linkplain Object#toString() текстовое представление} текущей версии в кодировке ASCII в переданный
+     * буфер байтов по абсолютному смещению. Позиция буфера не изменяется.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение.
+     *
+     * @return {@linkplain #formatLength() Количество записанных байтов}.
+     *
+     * @see #formatTo(byte[], int)
+     * @see Version#parse(ByteBuffer, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    default @Range(from = 1, to = Integer.MAX_VALUE) int formatTo(final @NotNull ByteBuffer buffer, final int offset)
+            throws NullException, IndexOutOfBoundsException {
+        final var length = formatLength();
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(buffer, "The passed buffer").limit());
+        VersionFormatter.format(this, buffer, offset);
+        return length;
+    }
+
     /**
      * Возвращает истинное значение, если переданная версия одиночного формата новее текущей, в противном случае —
      * ложное значение.
@@ -192,12 +331,17 @@ public interface SingleVersion extends Version {
 
     /**
      * Встроенная реализация.
+     * <p>
+     * Встроенные реализации всех форматов образуют запечатанную иерархию, поэтому
+     * {@linkplain #compareTo(Version) ядро сравнения} распознаёт их проверками типов и читает поля напрямую, без
+     * виртуальных вызовов. Сторонние реализации сравниваются через методы интерфейсов или могут быть приведены к
+     * встроенным через {@link Versions#adapt(SingleVersion)}.
      *
      * @see SingleVersion
      * @see #Impl(int)
      * @since 1.0.0-RC1
      */
-    class Impl implements SingleVersion {
+    sealed class Impl implements SingleVersion permits DoubleVersion.Impl, VersionCache.CachedSingle {
 
         /**
          * Главный номер версии.
@@ -230,13 +374,26 @@ public interface SingleVersion extends Version {
             return major;
         }
 
+        /**
+         * Возвращает {@linkplain Version#pack(int, int) упакованную версию} с нулевым второстепенным номером.
+         *
+         * @return {@linkplain Version#pack(int, int) Упакованную версию}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @Range(from = 0, to = Long.MAX_VALUE) long pack() {
+            return (long) major << 32;
+        }
+
         /**
          * @since 1.0.0-RC1
          */
         @Override
         @Contract("!null -> _; _ -> false")
         public boolean equals(final @Nullable Object object) {
-            return object == this || object instanceof SingleVersion version && version.major() == major;
+            return object == this || object instanceof SingleVersion version && compareTo(version) == 0;
         }
 
         /**
@@ -244,8 +401,8 @@ public interface SingleVersion extends Version {
          */
         @Override
         @Contract("-> const")
-        public @Range(from = 0, to = Integer.MAX_VALUE) int hashCode() {
-            return major;
+        public int hashCode() {
+            return Long.hashCode(pack());
         }
 
         /**
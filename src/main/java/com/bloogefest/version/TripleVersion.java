@@ -0,0 +1,135 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+
+/**
+ * Этот интерфейс содержит методы, применимые к тройному формату версий {@code major.minor.patch[-pre][+build]}.
+ *
+ * @see Impl
+ * @see #of(int, int, int)
+ * @see #of(int, int, int, String, String)
+ * @since 1.0.0-RC2
+ */
+public interface TripleVersion extends MultiVersion {
+
+    /**
+     * Создаёт и возвращает
+     * {@linkplain Impl#Impl(int, int, int) встроенную реализацию на основе переданных номеров версии}.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     * @param patch номер исправления.
+     *
+     * @return {@linkplain Impl#Impl(int, int, int) Встроенную реализацию}.
+     *
+     * @see #of(int, int, int, String, String)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull TripleVersion of(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                                     final @Range(from = 0, to = Integer.MAX_VALUE) int minor,
+                                     final @Range(from = 0, to = Integer.MAX_VALUE) int patch) {
+        VersionTelemetry.METRICS.created();
+        return new Impl(major, minor, patch);
+    }
+
+    /**
+     * Создаёт и возвращает
+     * {@linkplain Impl#Impl(int, int, int, String, String) встроенную реализацию на основе переданных номеров версии,
+     * предварительной метки и метки сборки}.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     * @param patch номер исправления.
+     * @param preRelease предварительная метка или {@code null}.
+     * @param build метка сборки или {@code null}.
+     *
+     * @return {@linkplain Impl#Impl(int, int, int, String, String) Встроенную реализацию}.
+     *
+     * @see #of(int, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _, _, _, _ -> new")
+    static @NotNull TripleVersion of(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                                     final @Range(from = 0, to = Integer.MAX_VALUE) int minor,
+                                     final @Range(from = 0, to = Integer.MAX_VALUE) int patch,
+                                     final @Nullable String preRelease, final @Nullable String build)
+            throws VersionFormatException {
+        VersionTelemetry.METRICS.created();
+        return new Impl(major, minor, patch, preRelease, build);
+    }
+
+    /**
+     * Возвращает номер исправления.
+     *
+     * @return Номер исправления.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    @Range(from = 0, to = Integer.MAX_VALUE) int patch();
+
+    /**
+     * Встроенная реализация.
+     *
+     * @see TripleVersion
+     * @see #Impl(int, int, int)
+     * @see #Impl(int, int, int, String, String)
+     * @since 1.0.0-RC2
+     */
+    final class Impl extends MultiVersion.Impl implements TripleVersion {
+
+        /**
+         * Создаёт встроенную реализацию на основе переданных номеров версии.
+         *
+         * @param major главный номер версии.
+         * @param minor второстепенный номер версии.
+         * @param patch номер исправления.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Impl(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                    final @Range(from = 0, to = Integer.MAX_VALUE) int minor,
+                    final @Range(from = 0, to = Integer.MAX_VALUE) int patch) {
+            super(major, minor, patch, null, null);
+        }
+
+        /**
+         * Создаёт встроенную реализацию на основе переданных номеров версии, предварительной метки и метки сборки.
+         *
+         * @param major главный номер версии.
+         * @param minor второстепенный номер версии.
+         * @param patch номер исправления.
+         * @param preRelease предварительная метка или {@code null}.
+         * @param build метка сборки или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Impl(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                    final @Range(from = 0, to = Integer.MAX_VALUE) int minor,
+                    final @Range(from = 0, to = Integer.MAX_VALUE) int patch, final @Nullable String preRelease,
+                    final @Nullable String build) throws VersionFormatException {
+            super(major, minor, patch, preRelease, build);
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @Range(from = 0, to = Integer.MAX_VALUE) int patch() {
+            return (int) (tail >>> 32);
+        }
+
+    }
+
+}
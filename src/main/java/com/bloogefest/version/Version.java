@@ -8,7 +8,13 @@ package com.bloogefest.version;
 
 import com.bloogefest.annotation.Contract;
 import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
 import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Этот интерфейс содержит методы, применимые к любому формату версий.
@@ -17,6 +23,312 @@ import com.bloogefest.common.validation.NullException;
  */
 public interface Version {
 
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданной последовательности символов.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor]}.
+     *
+     * @return Версию одиночного формата, если последовательность не содержит второстепенного номера, в противном
+     * случае — версию двойного формата.
+     *
+     * @see #parse(CharSequence, int, int)
+     * @see #tryParse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    static @NotNull SingleVersion parse(final @NotNull CharSequence sequence)
+            throws NullException, VersionFormatException {
+        return parse(Validator.notNull(sequence, "The passed sequence"), 0, sequence.length());
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка последовательности
+     * символов.
+     *
+     * @param sequence последовательность символов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #parse(CharSequence)
+     * @see #tryParse(CharSequence, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> _; _, _, _ -> fail")
+    static @NotNull SingleVersion parse(final @NotNull CharSequence sequence, final int offset, final int length)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(sequence, "The passed sequence").length());
+        return VersionParser.require(VersionParser.scan(sequence, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка массива байтов в кодировке
+     * ASCII.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #tryParse(byte[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> _; _, _, _ -> fail")
+    static @NotNull SingleVersion parse(final @NotNull byte[] bytes, final int offset, final int length)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(bytes, "The passed bytes").length);
+        return VersionParser.require(VersionParser.scan(bytes, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка буфера байтов в кодировке
+     * ASCII. Позиция буфера не изменяется.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #tryParse(ByteBuffer, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> _; _, _, _ -> fail")
+    static @NotNull SingleVersion parse(final @NotNull ByteBuffer buffer, final int offset, final int length)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(buffer, "The passed buffer").limit());
+        return VersionParser.require(VersionParser.scan(buffer, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданной последовательности символов или
+     * {@code null}, если последовательность не является версией.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor]}.
+     *
+     * @return Версию одиночного или двойного формата или {@code null}.
+     *
+     * @see #tryParse(CharSequence, int, int)
+     * @see #parse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null -> null")
+    static @Nullable SingleVersion tryParse(final @Nullable CharSequence sequence) {
+        return sequence == null ? null : VersionParser.version(VersionParser.scan(sequence, 0, sequence.length()));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка последовательности
+     * символов или {@code null}, если участок не является версией или выходит за границы последовательности.
+     *
+     * @param sequence последовательность символов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата или {@code null}.
+     *
+     * @see #tryParse(CharSequence)
+     * @see #parse(CharSequence, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> null")
+    static @Nullable SingleVersion tryParse(final @Nullable CharSequence sequence, final int offset,
+                                            final int length) {
+        return sequence == null || VersionParser.outside(offset, length, sequence.length())
+               ? null
+               : VersionParser.version(VersionParser.scan(sequence, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка массива байтов в кодировке
+     * ASCII или {@code null}, если участок не является версией или выходит за границы массива.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата или {@code null}.
+     *
+     * @see #parse(byte[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> null")
+    static @Nullable SingleVersion tryParse(final @Nullable byte[] bytes, final int offset, final int length) {
+        return bytes == null || VersionParser.outside(offset, length, bytes.length)
+               ? null
+               : VersionParser.version(VersionParser.scan(bytes, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка буфера байтов в кодировке
+     * ASCII или {@code null}, если участок не является версией или выходит за границы буфера. Позиция буфера не
+     * изменяется.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение участка.
+     * @param length длина участка.
+     *
+     * @return Версию одиночного или двойного формата или {@code null}.
+     *
+     * @see #parse(ByteBuffer, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> null")
+    static @Nullable SingleVersion tryParse(final @Nullable ByteBuffer buffer, final int offset, final int length) {
+        return buffer == null || VersionParser.outside(offset, length, buffer.limit())
+               ? null
+               : VersionParser.version(VersionParser.scan(buffer, offset, length));
+    }
+
+    /**
+     * Упаковывает и возвращает переданные главный и второстепенный номера версии в одно значение типа {@code long}.
+     * <p>
+     * Главный номер версии занимает старшие 32 бита, второстепенный — младшие 32 бита. Так как оба номера
+     * неотрицательны, упакованные значения сравниваются так же, как и соответствующие версии, а версия одиночного
+     * формата {@code major} упаковывается так же, как и версия двойного формата {@code major.0}. Остальные номера и
+     * метки {@linkplain MultiVersion многокомпонентных версий} в упакованную версию не входят.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Упакованную версию.
+     *
+     * @see #unpack(long)
+     * @see #major(long)
+     * @see #minor(long)
+     * @see SingleVersion#pack()
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    static long pack(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                     final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return (long) major << 32 | minor;
+    }
+
+    /**
+     * Распаковывает и возвращает {@linkplain DoubleVersion#of(int, int) версию двойного формата} на основе переданной
+     * упакованной версии.
+     *
+     * @param packed упакованная версия.
+     *
+     * @return {@linkplain DoubleVersion#of(int, int) Версию двойного формата}.
+     *
+     * @see #pack(int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    static @NotNull DoubleVersion unpack(final @Range(from = 0, to = Long.MAX_VALUE) long packed) {
+        return DoubleVersion.of(major(packed), minor(packed));
+    }
+
+    /**
+     * Возвращает главный номер переданной упакованной версии.
+     *
+     * @param packed упакованная версия.
+     *
+     * @return Главный номер версии.
+     *
+     * @see #pack(int, int)
+     * @see #minor(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    static @Range(from = 0, to = Integer.MAX_VALUE) int major(final @Range(from = 0, to = Long.MAX_VALUE) long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    /**
+     * Возвращает второстепенный номер переданной упакованной версии.
+     *
+     * @param packed упакованная версия.
+     *
+     * @return Второстепенный номер версии.
+     *
+     * @see #pack(int, int)
+     * @see #major(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    static @Range(from = 0, to = Integer.MAX_VALUE) int minor(final @Range(from = 0, to = Long.MAX_VALUE) long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Сравнивает переданные упакованные версии.
+     *
+     * @param version упакованная версия.
+     * @param other другая упакованная версия.
+     *
+     * @return Отрицательное число, ноль или положительное число, если первая версия соответственно старее, такая же или
+     * новее второй.
+     *
+     * @see #newer(long, long)
+     * @see #same(long, long)
+     * @see #older(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    static int compare(final long version, final long other) {
+        return Long.compare(version, other);
+    }
+
+    /**
+     * Возвращает истинное значение, если вторая упакованная версия новее первой, в противном случае — ложное значение.
+     *
+     * @param current текущая упакованная версия.
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #newer(Version)
+     * @see #same(long, long)
+     * @see #older(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    static boolean newer(final long current, final long version) {
+        return version > current;
+    }
+
+    /**
+     * Возвращает истинное значение, если вторая упакованная версия такая же, как и первая, в противном случае — ложное
+     * значение.
+     *
+     * @param current текущая упакованная версия.
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #same(Version)
+     * @see #newer(long, long)
+     * @see #older(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    static boolean same(final long current, final long version) {
+        return version == current;
+    }
+
+    /**
+     * Возвращает истинное значение, если вторая упакованная версия старее первой, в противном случае — ложное значение.
+     *
+     * @param current текущая упакованная версия.
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #older(Version)
+     * @see #newer(long, long)
+     * @see #same(long, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    static boolean older(final long current, final long version) {
+        return version < current;
+    }
+
     /**
      * Возвращает истинное значение, если переданная версия новее текущей, в противном случае — ложное значение.
      *
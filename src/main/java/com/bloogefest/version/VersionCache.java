@@ -0,0 +1,211 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+
+/**
+ * Кеш канонических экземпляров {@linkplain SingleVersion.Impl встроенных реализаций}.
+ * <p>
+ * Версии с небольшими номерами хранятся в таблицах, заполняемых по мере обращения. Остальные версии хранятся в
+ * ограниченном кеше прямого отображения: каждая упакованная версия соответствует единственной ячейке, а при
+ * коллизии ячейка перезаписывается. Чтение и запись ячеек не требуют блокировок, так как поля встроенных реализаций
+ * являются неизменяемыми и безопасно публикуются через гонку.
+ * <p>
+ * Канонические экземпляры запоминают своё {@linkplain Object#toString() текстовое представление} при первом обращении,
+ * поэтому повторное форматирование часто используемых версий не создаёт строк.
+ *
+ * @see SingleVersion#of(int)
+ * @see DoubleVersion#of(int, int)
+ * @since 1.0.0-RC2
+ */
+final class VersionCache {
+
+    /**
+     * Количество главных номеров версий, хранящихся в таблицах.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int MAJORS = 64;
+
+    /**
+     * Количество второстепенных номеров версий двойного формата, хранящихся в таблице.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int MINORS = 64;
+
+    /**
+     * Количество ячеек ограниченного кеша. Является степенью двойки.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int SLOTS = 1024;
+
+    private static final SingleVersion.Impl[] SINGLE_TABLE = new SingleVersion.Impl[MAJORS];
+
+    private static final DoubleVersion.Impl[] DOUBLE_TABLE = new DoubleVersion.Impl[MAJORS * MINORS];
+
+    private static final SingleVersion.Impl[] SINGLE_SLOTS = new SingleVersion.Impl[SLOTS];
+
+    private static final DoubleVersion.Impl[] DOUBLE_SLOTS = new DoubleVersion.Impl[SLOTS];
+
+    private VersionCache() {
+    }
+
+    /**
+     * Возвращает канонический экземпляр версии одиночного формата на основе переданного главного номера версии.
+     *
+     * @param major главный номер версии.
+     *
+     * @return Канонический экземпляр версии одиночного формата.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull SingleVersion.Impl single(final int major) {
+        final SingleVersion.Impl[] table;
+        final int index;
+        if (major >= 0 && major < MAJORS) {
+            table = SINGLE_TABLE;
+            index = major;
+        } else {
+            table = SINGLE_SLOTS;
+            index = slot(Version.pack(major, 0));
+        }
+        VersionTelemetry.METRICS.created();
+        final var cached = table[index];
+        if (cached != null && cached.major == major) {
+            VersionTelemetry.METRICS.interned(true);
+            return cached;
+        }
+        VersionTelemetry.METRICS.interned(false);
+        return table[index] = new CachedSingle(major);
+    }
+
+    /**
+     * Возвращает канонический экземпляр версии двойного формата на основе переданных главного и второстепенного
+     * номеров версии.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Канонический экземпляр версии двойного формата.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull DoubleVersion.Impl doubled(final int major, final int minor) {
+        final DoubleVersion.Impl[] table;
+        final int index;
+        if (major >= 0 && major < MAJORS && minor >= 0 && minor < MINORS) {
+            table = DOUBLE_TABLE;
+            index = major * MINORS + minor;
+        } else {
+            table = DOUBLE_SLOTS;
+            index = slot(Version.pack(major, minor));
+        }
+        VersionTelemetry.METRICS.created();
+        final var cached = table[index];
+        if (cached != null && cached.major == major && cached.minor == minor) {
+            VersionTelemetry.METRICS.interned(true);
+            return cached;
+        }
+        VersionTelemetry.METRICS.interned(false);
+        return table[index] = new CachedDouble(major, minor);
+    }
+
+    /**
+     * Возвращает хорошо перемешанный хеш-код переданной упакованной версии.
+     *
+     * @param packed упакованная версия.
+     *
+     * @return Хеш-код.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int mix(final long packed) {
+        var hash = packed;
+        hash = (hash ^ hash >>> 33) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ hash >>> 33) * 0xc4ceb9fe1a85ec53L;
+        return (int) (hash ^ hash >>> 33);
+    }
+
+    /**
+     * Возвращает номер ячейки ограниченного кеша для переданной упакованной версии.
+     *
+     * @param packed упакованная версия.
+     *
+     * @return Номер ячейки.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int slot(final long packed) {
+        return mix(packed) & SLOTS - 1;
+    }
+
+    /**
+     * Канонический экземпляр версии одиночного формата, запоминающий своё текстовое представление.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final class CachedSingle extends SingleVersion.Impl {
+
+        /**
+         * Текстовое представление или {@code null}, если оно ещё не создано.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable String text;
+
+        private CachedSingle(final int major) {
+            super(major);
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @NotNull String toString() {
+            final var cached = text;
+            return cached != null ? cached : (text = super.toString());
+        }
+
+    }
+
+    /**
+     * Канонический экземпляр версии двойного формата, запоминающий своё текстовое представление.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final class CachedDouble extends DoubleVersion.Impl {
+
+        /**
+         * Текстовое представление или {@code null}, если оно ещё не создано.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable String text;
+
+        private CachedDouble(final int major, final int minor) {
+            super(major, minor);
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> const")
+        public @NotNull String toString() {
+            final var cached = text;
+            return cached != null ? cached : (text = super.toString());
+        }
+
+    }
+
+}
@@ -0,0 +1,531 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Этот класс содержит методы двоичного кодирования версий одиночного и двойного форматов без промежуточных строк.
+ * <p>
+ * Поддерживаются две кодировки:
+ * <ul>
+ *     <li>{@linkplain #encodeFixed(SingleVersion) фиксированная} — {@linkplain SingleVersion#pack() упакованная
+ *     версия}, ровно {@value #FIXED_BYTES} байтов в порядке big-endian. Закодированные версии сравниваются как
+ *     беззнаковые байты так же, как и сами версии, а равные версии разных форматов кодируются одинаково, поэтому их
+ *     можно использовать как ключи упорядоченных хранилищ без декодирования;</li>
+ *     <li>{@linkplain #writeVarint(SingleVersion, byte[], int) переменной длины} — от 1 до {@value #MAX_VARINT_BYTES}
+ *     байтов: {@code major << 1 | double}, а для версии двойного формата затем {@code minor}, каждое в формате
+ *     LEB128. Версии вида {@code 1.2} занимают два байта.</li>
+ * </ul>
+ * Кодировка переменной длины сохраняет формат версии, а фиксированная декодируется в версию двойного формата.
+ * {@linkplain MultiVersion Многокомпонентные версии} не кодируются. Декодированные версии получаются через
+ * {@link SingleVersion#of(int)} и {@link DoubleVersion#of(int, int)}, поэтому часто используемые версии не создаются
+ * заново.
+ *
+ * @see Version#pack(int, int)
+ * @since 1.0.0-RC2
+ */
+public final class VersionCodec {
+
+    /**
+     * Количество байтов фиксированной кодировки.
+     *
+     * @since 1.0.0-RC2
+     */
+    public static final int FIXED_BYTES = Long.BYTES;
+
+    /**
+     * Наибольшее количество байтов кодировки переменной длины.
+     *
+     * @since 1.0.0-RC2
+     */
+    public static final int MAX_VARINT_BYTES = 10;
+
+    private VersionCodec() {
+    }
+
+    /**
+     * Кодирует и возвращает переданную версию в фиксированной кодировке. Результат совпадает с
+     * {@linkplain SingleVersion#pack() упакованной версией}: закодированные версии сравниваются так же, как и сами
+     * версии, а версии {@code major} и {@code major.0} кодируются одинаково.
+     *
+     * @param version версия одиночного или двойного формата.
+     *
+     * @return Закодированную версию.
+     *
+     * @see #decodeFixed(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @Range(from = 0, to = Long.MAX_VALUE) long encodeFixed(final @NotNull SingleVersion version)
+            throws NullException {
+        return check(version).pack();
+    }
+
+    /**
+     * Декодирует и возвращает версию двойного формата из переданного значения фиксированной кодировки.
+     *
+     * @param encoded закодированная версия.
+     *
+     * @return Версию двойного формата.
+     *
+     * @see #encodeFixed(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public static @NotNull DoubleVersion decodeFixed(final long encoded) throws VersionFormatException {
+        if ((encoded & (1L << 63 | 1L << 31)) != 0) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return Version.unpack(encoded);
+    }
+
+    /**
+     * Записывает переданную версию в фиксированной кодировке в переданный массив байтов.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Количество записанных байтов.
+     *
+     * @see #readFixed(byte[], int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null, _ -> _; _, _, _ -> fail")
+    public static int writeFixed(final @NotNull SingleVersion version, final @NotNull byte[] bytes, final int offset)
+            throws NullException, IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, FIXED_BYTES, Validator.notNull(bytes, "The passed bytes").length);
+        final var encoded = encodeFixed(version);
+        for (var index = 0; index < FIXED_BYTES; ++index) {
+            bytes[offset + index] = (byte) (encoded >>> (56 - (index << 3)));
+        }
+        return FIXED_BYTES;
+    }
+
+    /**
+     * Записывает переданную версию в фиксированной кодировке в переданный буфер байтов с его текущей позиции. Байты
+     * записываются в порядке big-endian независимо от порядка буфера.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param buffer буфер байтов.
+     *
+     * @see #readFixed(ByteBuffer)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public static void writeFixed(final @NotNull SingleVersion version, final @NotNull ByteBuffer buffer)
+            throws NullException {
+        final var encoded = encodeFixed(version);
+        Validator.notNull(buffer, "The passed buffer")
+                 .putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? encoded : Long.reverseBytes(encoded));
+    }
+
+    /**
+     * Записывает переданную версию в фиксированной кодировке в переданный поток.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param output поток.
+     *
+     * @see #readFixed(DataInput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public static void writeFixed(final @NotNull SingleVersion version, final @NotNull DataOutput output)
+            throws NullException, IOException {
+        final var encoded = encodeFixed(version);
+        Validator.notNull(output, "The passed output").writeLong(encoded);
+    }
+
+    /**
+     * Читает и возвращает версию в фиксированной кодировке из переданного массива байтов.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Версию двойного формата.
+     *
+     * @see #writeFixed(SingleVersion, byte[], int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    public static @NotNull DoubleVersion readFixed(final @NotNull byte[] bytes, final int offset)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, FIXED_BYTES, Validator.notNull(bytes, "The passed bytes").length);
+        var encoded = 0L;
+        for (var index = 0; index < FIXED_BYTES; ++index) {
+            encoded = encoded << 8 | bytes[offset + index] & 0xff;
+        }
+        return decodeFixed(encoded);
+    }
+
+    /**
+     * Читает и возвращает версию в фиксированной кодировке из переданного буфера байтов с его текущей позиции.
+     *
+     * @param buffer буфер байтов.
+     *
+     * @return Версию двойного формата.
+     *
+     * @see #writeFixed(SingleVersion, ByteBuffer)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @NotNull DoubleVersion readFixed(final @NotNull ByteBuffer buffer)
+            throws NullException, VersionFormatException {
+        final var encoded = Validator.notNull(buffer, "The passed buffer").getLong();
+        return decodeFixed(buffer.order() == ByteOrder.BIG_ENDIAN ? encoded : Long.reverseBytes(encoded));
+    }
+
+    /**
+     * Читает и возвращает версию в фиксированной кодировке из переданного потока.
+     *
+     * @param input поток.
+     *
+     * @return Версию двойного формата.
+     *
+     * @see #writeFixed(SingleVersion, DataOutput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @NotNull DoubleVersion readFixed(final @NotNull DataInput input)
+            throws NullException, IOException, VersionFormatException {
+        return decodeFixed(Validator.notNull(input, "The passed input").readLong());
+    }
+
+    /**
+     * Возвращает количество байтов переданной версии в кодировке переменной длины.
+     *
+     * @param version версия одиночного или двойного формата.
+     *
+     * @return Количество байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @Range(from = 1, to = MAX_VARINT_BYTES) int varintLength(final @NotNull SingleVersion version)
+            throws NullException {
+        final var length = length(header(version));
+        return version instanceof DoubleVersion doubled ? length + length(doubled.minor()) : length;
+    }
+
+    /**
+     * Записывает переданную версию в кодировке переменной длины в переданный массив байтов.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Количество записанных байтов.
+     *
+     * @see #readVarint(byte[], int)
+     * @see #varintLength(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null, _ -> _; _, _, _ -> fail")
+    public static @Range(from = 1, to = MAX_VARINT_BYTES) int writeVarint(final @NotNull SingleVersion version,
+                                                                          final @NotNull byte[] bytes,
+                                                                          final int offset)
+            throws NullException, IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, varintLength(version), Validator.notNull(bytes, "The passed bytes").length);
+        var position = write(header(version), bytes, offset);
+        if (version instanceof DoubleVersion doubled) {
+            position = write(doubled.minor(), bytes, position);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Записывает переданную версию в кодировке переменной длины в переданный буфер байтов с его текущей позиции.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param buffer буфер байтов.
+     *
+     * @see #readVarint(ByteBuffer)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public static void writeVarint(final @NotNull SingleVersion version, final @NotNull ByteBuffer buffer)
+            throws NullException {
+        final var header = header(version);
+        write(header, Validator.notNull(buffer, "The passed buffer"));
+        if (version instanceof DoubleVersion doubled) {
+            write(doubled.minor(), buffer);
+        }
+    }
+
+    /**
+     * Записывает переданную версию в кодировке переменной длины в переданный поток.
+     *
+     * @param version версия одиночного или двойного формата.
+     * @param output поток.
+     *
+     * @see #readVarint(DataInput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public static void writeVarint(final @NotNull SingleVersion version, final @NotNull DataOutput output)
+            throws NullException, IOException {
+        final var header = header(version);
+        write(header, Validator.notNull(output, "The passed output"));
+        if (version instanceof DoubleVersion doubled) {
+            write(doubled.minor(), output);
+        }
+    }
+
+    /**
+     * Читает и возвращает версию в кодировке переменной длины из переданного массива байтов. Количество прочитанных
+     * байтов равно {@linkplain #varintLength(SingleVersion) длине кодировки} возвращённой версии.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #writeVarint(SingleVersion, byte[], int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    public static @NotNull SingleVersion readVarint(final @NotNull byte[] bytes, final int offset)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkIndex(offset, Validator.notNull(bytes, "The passed bytes").length);
+        var position = offset;
+        var header = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var current = bytes[position++];
+            header = accumulate(header, current, shift);
+            if (current >= 0) {
+                break;
+            }
+        }
+        if ((header & 1) == 0) {
+            return SingleVersion.of((int) (header >>> 1));
+        }
+        var minor = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var current = bytes[position++];
+            minor = accumulate(minor, current, shift);
+            if (current >= 0) {
+                break;
+            }
+        }
+        return decode(header, minor);
+    }
+
+    /**
+     * Читает и возвращает версию в кодировке переменной длины из переданного буфера байтов с его текущей позиции.
+     *
+     * @param buffer буфер байтов.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #writeVarint(SingleVersion, ByteBuffer)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @NotNull SingleVersion readVarint(final @NotNull ByteBuffer buffer)
+            throws NullException, VersionFormatException {
+        final var header = read(Validator.notNull(buffer, "The passed buffer"));
+        return (header & 1) == 0 ? SingleVersion.of((int) (header >>> 1)) : decode(header, read(buffer));
+    }
+
+    /**
+     * Читает и возвращает версию в кодировке переменной длины из переданного потока.
+     *
+     * @param input поток.
+     *
+     * @return Версию одиночного или двойного формата.
+     *
+     * @see #writeVarint(SingleVersion, DataOutput)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @NotNull SingleVersion readVarint(final @NotNull DataInput input)
+            throws NullException, IOException, VersionFormatException {
+        final var header = read(Validator.notNull(input, "The passed input"));
+        return (header & 1) == 0 ? SingleVersion.of((int) (header >>> 1)) : decode(header, read(input));
+    }
+
+    /**
+     * Проверяет и возвращает переданную версию.
+     *
+     * @param version версия.
+     *
+     * @return Переданную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull SingleVersion check(final @NotNull SingleVersion version) throws NullException {
+        if (Validator.notNull(version, "The passed version") instanceof MultiVersion) {
+            throw new IllegalArgumentException("The passed version cannot be multi-component");
+        }
+        return version;
+    }
+
+    /**
+     * Возвращает заголовок переданной версии в кодировке переменной длины.
+     *
+     * @param version версия.
+     *
+     * @return Заголовок {@code major << 1 | double}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long header(final @NotNull SingleVersion version) throws NullException {
+        return (long) check(version).major() << 1 | (version instanceof DoubleVersion ? 1 : 0);
+    }
+
+    /**
+     * Возвращает версию двойного формата на основе переданных заголовка и второстепенного номера.
+     *
+     * @param header заголовок.
+     * @param minor второстепенный номер.
+     *
+     * @return Версию двойного формата.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull SingleVersion decode(final long header, final long minor) throws VersionFormatException {
+        if (minor > Integer.MAX_VALUE) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return DoubleVersion.of((int) (header >>> 1), (int) minor);
+    }
+
+    /**
+     * Возвращает количество байтов переданного неотрицательного значения в формате LEB128.
+     *
+     * @param value значение.
+     *
+     * @return Количество байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int length(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Добавляет переданный байт формата LEB128 к переданному значению.
+     *
+     * @param value значение.
+     * @param current байт.
+     * @param shift сдвиг байта.
+     *
+     * @return Новое значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long accumulate(final long value, final byte current, final int shift)
+            throws VersionFormatException {
+        final var result = value | (long) (current & 0x7f) << shift;
+        if (shift > 28 || result > 0xffffffffL) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return result;
+    }
+
+    /**
+     * Записывает переданное неотрицательное значение в формате LEB128 в переданный массив байтов.
+     *
+     * @param value значение.
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int write(long value, final @NotNull byte[] bytes, int offset) {
+        for (; value > 0x7f; value >>>= 7) {
+            bytes[offset++] = (byte) (value | 0x80);
+        }
+        bytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Записывает переданное неотрицательное значение в формате LEB128 в переданный буфер байтов.
+     *
+     * @param value значение.
+     * @param buffer буфер байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void write(long value, final @NotNull ByteBuffer buffer) {
+        for (; value > 0x7f; value >>>= 7) {
+            buffer.put((byte) (value | 0x80));
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Записывает переданное неотрицательное значение в формате LEB128 в переданный поток.
+     *
+     * @param value значение.
+     * @param output поток.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void write(long value, final @NotNull DataOutput output) throws IOException {
+        for (; value > 0x7f; value >>>= 7) {
+            output.writeByte((int) (value | 0x80));
+        }
+        output.writeByte((int) value);
+    }
+
+    /**
+     * Читает и возвращает значение в формате LEB128 из переданного буфера байтов.
+     *
+     * @param buffer буфер байтов.
+     *
+     * @return Значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long read(final @NotNull ByteBuffer buffer) throws VersionFormatException {
+        var value = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var current = buffer.get();
+            value = accumulate(value, current, shift);
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Читает и возвращает значение в формате LEB128 из переданного потока.
+     *
+     * @param input поток.
+     *
+     * @return Значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long read(final @NotNull DataInput input) throws IOException, VersionFormatException {
+        var value = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var current = input.readByte();
+            value = accumulate(value, current, shift);
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,653 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Столбец {@linkplain Version#pack(int, int) упакованных версий}, хранящийся вне кучи.
+ * <p>
+ * Версии хранятся в прямых буферах по {@value #CHUNK} версий, поэтому количество версий в столбце ограничено только
+ * доступной памятью, а сборщик мусора не просматривает и не перемещает их. Одна версия занимает 8 байтов без
+ * заголовков объектов. Буферы выделяются по мере добавления версий и освобождаются сборщиком мусора вместе со
+ * столбцом.
+ * <p>
+ * {@linkplain #counts() Группировка}, {@linkplain #sort() сортировка}, поиск {@linkplain #min() наименьшей},
+ * {@linkplain #max() наибольшей} версии и {@linkplain #percentile(double) процентилей} выполняются параллельно по
+ * буферам в общем пуле fork-join. Память, используемая группировкой и сортировкой, пропорциональна количеству
+ * различных версий, а не количеству строк.
+ * <p>
+ * Столбец не является потокобезопасным: его можно читать из нескольких потоков, только пока он не изменяется.
+ *
+ * @see Counts
+ * @since 1.0.0-RC2
+ */
+public final class VersionColumn {
+
+    /**
+     * Количество версий в одном буфере.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int CHUNK = 1 << 20;
+
+    /**
+     * Двоичный логарифм {@linkplain #CHUNK количества версий в одном буфере}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int SHIFT = Integer.numberOfTrailingZeros(CHUNK);
+
+    /**
+     * Буферы версий. Все буферы, кроме последнего, заполнены.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final ArrayList<LongBuffer> chunks = new ArrayList<>();
+
+    /**
+     * Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private long size;
+
+    /**
+     * Упорядочены ли версии по возрастанию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private boolean sorted = true;
+
+    /**
+     * Создаёт пустой столбец.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionColumn() {
+    }
+
+    /**
+     * Возвращает количество версий.
+     *
+     * @return Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = 0, to = Long.MAX_VALUE) long size() {
+        return size;
+    }
+
+    /**
+     * Возвращает упакованную версию по переданному номеру строки.
+     *
+     * @param index номер строки.
+     *
+     * @return Упакованную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public @Range(from = 0, to = Long.MAX_VALUE) long get(final @Range(from = 0, to = Long.MAX_VALUE) long index)
+            throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, size);
+        return chunks.get((int) (index >>> SHIFT)).get((int) index & CHUNK - 1);
+    }
+
+    /**
+     * Добавляет переданную упакованную версию в конец столбца.
+     *
+     * @param packed упакованная версия.
+     *
+     * @see #append(SingleVersion)
+     * @see #appendAll(long[])
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public void append(final @Range(from = 0, to = Long.MAX_VALUE) long packed) {
+        if (packed < 0) {
+            throw new IllegalArgumentException("The passed packed version is negative");
+        }
+        if (sorted && size > 0 && get(size - 1) > packed) {
+            sorted = false;
+        }
+        chunk().put(packed);
+        ++size;
+    }
+
+    /**
+     * Добавляет переданную версию в конец столбца.
+     *
+     * @param version версия.
+     *
+     * @see #append(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public void append(final @NotNull SingleVersion version) throws NullException {
+        append(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Добавляет переданные упакованные версии в конец столбца в том же порядке.
+     *
+     * @param packed упакованные версии.
+     *
+     * @see #append(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public void appendAll(final @NotNull long[] packed) throws NullException {
+        Validator.notNull(packed, "The passed packed versions");
+        var previous = size > 0 ? get(size - 1) : 0;
+        for (final var version : packed) {
+            if (version < 0) {
+                throw new IllegalArgumentException("The passed packed versions contain a negative packed version");
+            }
+            sorted &= previous <= version;
+            previous = version;
+        }
+        for (var offset = 0; offset < packed.length; ) {
+            final var chunk = chunk();
+            final var length = Math.min(chunk.remaining(), packed.length - offset);
+            chunk.put(packed, offset, length);
+            offset += length;
+            size += length;
+        }
+    }
+
+    /**
+     * Удаляет все версии и освобождает буферы.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void clear() {
+        chunks.clear();
+        size = 0;
+        sorted = true;
+    }
+
+    /**
+     * Подсчитывает и возвращает количество строк каждой различной версии.
+     * <p>
+     * Каждый буфер группируется отдельной задачей в хеш-таблице с открытой адресацией, после чего отсортированные
+     * результаты задач попарно сливаются.
+     *
+     * @return Количество строк каждой версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull Counts counts() {
+        if (sorted) {
+            return IntStream.range(0, chunks.size())
+                            .parallel()
+                            .mapToObj(index -> runs(chunks.get(index)))
+                            .reduce(Counts::merge)
+                            .orElseGet(Counts::new);
+        }
+        return IntStream.range(0, chunks.size())
+                        .parallel()
+                        .mapToObj(index -> tally(chunks.get(index)))
+                        .reduce(Counts::merge)
+                        .orElseGet(Counts::new);
+    }
+
+    /**
+     * Сортирует версии по возрастанию.
+     * <p>
+     * Версии {@linkplain #counts() группируются}, после чего каждый буфер параллельно заполняется версиями по порядку
+     * их количеств, поэтому сортировка выполняется за линейное время и не требует второго столбца.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+        final var counts = counts();
+        final var ends = new long[counts.size];
+        var end = 0L;
+        for (var index = 0; index < counts.size; ++index) {
+            end += counts.counts[index];
+            ends[index] = end;
+        }
+        IntStream.range(0, chunks.size()).parallel().forEach(index -> {
+            final var chunk = chunks.get(index);
+            final var start = (long) index << SHIFT;
+            var entry = Arrays.binarySearch(ends, start);
+            entry = entry < 0 ? -entry - 1 : entry + 1;
+            for (var position = 0; position < chunk.position(); ++position) {
+                while (ends[entry] <= start + position) {
+                    ++entry;
+                }
+                chunk.put(position, counts.versions[entry]);
+            }
+        });
+        sorted = true;
+    }
+
+    /**
+     * Возвращает наименьшую упакованную версию или {@link VersionSet#NONE}, если столбец пуст.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long min() {
+        if (sorted) {
+            return size == 0 ? VersionSet.NONE : get(0);
+        }
+        return IntStream.range(0, chunks.size()).parallel().mapToLong(index -> {
+            final var chunk = chunks.get(index);
+            var min = Long.MAX_VALUE;
+            for (var position = 0; position < chunk.position(); ++position) {
+                min = Math.min(min, chunk.get(position));
+            }
+            return min;
+        }).min().orElse(VersionSet.NONE);
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию или {@link VersionSet#NONE}, если столбец пуст.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long max() {
+        if (sorted) {
+            return size == 0 ? VersionSet.NONE : get(size - 1);
+        }
+        return IntStream.range(0, chunks.size()).parallel().mapToLong(index -> {
+            final var chunk = chunks.get(index);
+            var max = VersionSet.NONE;
+            for (var position = 0; position < chunk.position(); ++position) {
+                max = Math.max(max, chunk.get(position));
+            }
+            return max;
+        }).max().orElse(VersionSet.NONE);
+    }
+
+    /**
+     * Возвращает упакованную версию переданного процентиля по ближайшему рангу или {@link VersionSet#NONE}, если
+     * столбец пуст. Если столбец отсортирован, то версия возвращается за постоянное время, в противном случае версии
+     * {@linkplain #counts() группируются}.
+     *
+     * @param fraction доля строк от нуля до единицы, версии которых не больше искомой.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @see Counts#percentile(double)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public long percentile(final double fraction) {
+        final var rank = rank(fraction, size);
+        if (size == 0) {
+            return VersionSet.NONE;
+        }
+        return sorted ? get(rank) : counts().percentile(fraction);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionColumn[size=" + size + ", chunks=" + chunks.size() + ", sorted=" + sorted + ']';
+    }
+
+    /**
+     * Возвращает номер строки процентиля по ближайшему рангу среди переданного количества строк.
+     *
+     * @param fraction доля строк от нуля до единицы.
+     * @param size количество строк.
+     *
+     * @return Номер строки.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long rank(final double fraction, final long size) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The passed fraction must be between 0 and 1");
+        }
+        return Math.max((long) Math.ceil(fraction * size) - 1, 0);
+    }
+
+    /**
+     * Возвращает буфер, в который добавляются версии, выделяя новый, если последний заполнен.
+     *
+     * @return Буфер версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @NotNull LongBuffer chunk() {
+        if (!chunks.isEmpty()) {
+            final var last = chunks.get(chunks.size() - 1);
+            if (last.hasRemaining()) {
+                return last;
+            }
+        }
+        final var chunk = ByteBuffer.allocateDirect(CHUNK * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        chunks.add(chunk);
+        return chunk;
+    }
+
+    /**
+     * Группирует версии переданного отсортированного буфера по сериям равных версий.
+     *
+     * @param chunk буфер версий.
+     *
+     * @return Количество строк каждой версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull Counts runs(final @NotNull LongBuffer chunk) {
+        final var result = new Counts();
+        for (var position = 0; position < chunk.position(); ) {
+            final var version = chunk.get(position);
+            final var start = position;
+            while (++position < chunk.position() && chunk.get(position) == version) {
+                // Пропускает серию равных версий.
+            }
+            result.add(version, position - start);
+        }
+        return result;
+    }
+
+    /**
+     * Группирует версии переданного буфера в хеш-таблице с открытой адресацией.
+     *
+     * @param chunk буфер версий.
+     *
+     * @return Количество строк каждой версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull Counts tally(final @NotNull LongBuffer chunk) {
+        var keys = new long[64];
+        var values = new long[64];
+        Arrays.fill(keys, VersionSet.NONE);
+        var distinct = 0;
+        for (var position = 0; position < chunk.position(); ++position) {
+            final var version = chunk.get(position);
+            var slot = slot(keys, version);
+            if (keys[slot] == version) {
+                ++values[slot];
+                continue;
+            }
+            if (++distinct << 1 > keys.length) {
+                final var oldKeys = keys;
+                final var oldValues = values;
+                keys = new long[oldKeys.length << 1];
+                values = new long[oldKeys.length << 1];
+                Arrays.fill(keys, VersionSet.NONE);
+                for (var index = 0; index < oldKeys.length; ++index) {
+                    if (oldKeys[index] != VersionSet.NONE) {
+                        final var moved = slot(keys, oldKeys[index]);
+                        keys[moved] = oldKeys[index];
+                        values[moved] = oldValues[index];
+                    }
+                }
+                slot = slot(keys, version);
+            }
+            keys[slot] = version;
+            values[slot] = 1;
+        }
+        final var versions = new long[distinct];
+        var count = 0;
+        for (final var key : keys) {
+            if (key != VersionSet.NONE) {
+                versions[count++] = key;
+            }
+        }
+        Arrays.sort(versions);
+        final var result = new Counts(Math.max(distinct, 1));
+        for (final var version : versions) {
+            result.add(version, values[slot(keys, version)]);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает ячейку переданной хеш-таблицы с открытой адресацией, содержащую переданную версию, или первую
+     * свободную ячейку на её пути поиска.
+     *
+     * @param keys ключи хеш-таблицы; размер является степенью двойки.
+     * @param version упакованная версия.
+     *
+     * @return Номер ячейки.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int slot(final @NotNull long[] keys, final long version) {
+        final var mask = keys.length - 1;
+        var slot = VersionCache.mix(version) & mask;
+        while (keys[slot] != version && keys[slot] != VersionSet.NONE) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Количество строк каждой различной версии столбца, упорядоченное по возрастанию версий.
+     *
+     * @see VersionColumn#counts()
+     * @since 1.0.0-RC2
+     */
+    public static final class Counts {
+
+        /**
+         * Различные упакованные версии по возрастанию.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long[] versions;
+
+        /**
+         * Количество строк каждой версии.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long[] counts;
+
+        /**
+         * Количество различных версий.
+         *
+         * @since 1.0.0-RC2
+         */
+        private int size;
+
+        /**
+         * Общее количество строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long total;
+
+        private Counts() {
+            this(16);
+        }
+
+        private Counts(final int capacity) {
+            versions = new long[capacity];
+            counts = new long[capacity];
+        }
+
+        /**
+         * Возвращает количество различных версий.
+         *
+         * @return Количество версий.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+            return size;
+        }
+
+        /**
+         * Возвращает общее количество строк.
+         *
+         * @return Количество строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public @Range(from = 0, to = Long.MAX_VALUE) long total() {
+            return total;
+        }
+
+        /**
+         * Возвращает упакованную версию по переданному номеру в порядке возрастания.
+         *
+         * @param index номер версии.
+         *
+         * @return Упакованную версию.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> _")
+        public @Range(from = 0, to = Long.MAX_VALUE) long version(final int index) throws IndexOutOfBoundsException {
+            return versions[Objects.checkIndex(index, size)];
+        }
+
+        /**
+         * Возвращает количество строк версии по переданному номеру в порядке возрастания.
+         *
+         * @param index номер версии.
+         *
+         * @return Количество строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> _")
+        public @Range(from = 1, to = Long.MAX_VALUE) long count(final int index) throws IndexOutOfBoundsException {
+            return counts[Objects.checkIndex(index, size)];
+        }
+
+        /**
+         * Возвращает количество строк переданной упакованной версии.
+         *
+         * @param packed упакованная версия.
+         *
+         * @return Количество строк или ноль, если версии нет.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> _")
+        public @Range(from = 0, to = Long.MAX_VALUE) long countOf(final long packed) {
+            final var index = Arrays.binarySearch(versions, 0, size, packed);
+            return index < 0 ? 0 : counts[index];
+        }
+
+        /**
+         * Возвращает упакованную версию переданного процентиля по ближайшему рангу или {@link VersionSet#NONE}, если
+         * строк нет.
+         *
+         * @param fraction доля строк от нуля до единицы, версии которых не больше искомой.
+         *
+         * @return Упакованную версию или {@link VersionSet#NONE}.
+         *
+         * @see VersionColumn#percentile(double)
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> _")
+        public long percentile(final double fraction) {
+            final var rank = rank(fraction, total);
+            var seen = 0L;
+            for (var index = 0; index < size; ++index) {
+                seen += counts[index];
+                if (seen > rank) {
+                    return versions[index];
+                }
+            }
+            return VersionSet.NONE;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> new")
+        public @NotNull String toString() {
+            final var builder = new StringBuilder("Counts[");
+            for (var index = 0; index < size; ++index) {
+                if (index > 0) {
+                    builder.append(", ");
+                }
+                builder.append(Version.unpack(versions[index])).append('=').append(counts[index]);
+            }
+            return builder.append(']').toString();
+        }
+
+        /**
+         * Добавляет переданную версию, большую или равную последней добавленной, с переданным количеством строк.
+         *
+         * @param version упакованная версия.
+         * @param count количество строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void add(final long version, final long count) {
+            total += count;
+            if (size > 0 && versions[size - 1] == version) {
+                counts[size - 1] += count;
+                return;
+            }
+            if (size == versions.length) {
+                versions = Arrays.copyOf(versions, size << 1);
+                counts = Arrays.copyOf(counts, size << 1);
+            }
+            versions[size] = version;
+            counts[size++] = count;
+        }
+
+        /**
+         * Сливает и возвращает переданные количества строк.
+         *
+         * @param first первые количества строк.
+         * @param second вторые количества строк.
+         *
+         * @return Объединённые количества строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        private static @NotNull Counts merge(final @NotNull Counts first, final @NotNull Counts second) {
+            final var result = new Counts(Math.max(first.size + second.size, 1));
+            var left = 0;
+            var right = 0;
+            while (left < first.size || right < second.size) {
+                if (right == second.size || left < first.size && first.versions[left] <= second.versions[right]) {
+                    result.add(first.versions[left], first.counts[left++]);
+                } else {
+                    result.add(second.versions[right], second.counts[right++]);
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+
+/**
+ * Ядро сравнения версий всех форматов.
+ * <p>
+ * Сначала сравниваются {@linkplain SingleVersion#pack() упакованные версии}. Если они совпадают и хотя бы одна из
+ * версий является {@linkplain MultiVersion многокомпонентной}, то сравниваются оставшиеся номера (недостающие номера
+ * считаются нулевыми) и предварительные метки по правилам семантического версионирования. Сравнение не создаёт
+ * объектов.
+ * <p>
+ * {@linkplain SingleVersion.Impl Встроенные реализации} образуют запечатанную иерархию, поэтому для них упакованные
+ * версии собираются из полей после проверок типов, а не через виртуальный вызов {@link SingleVersion#pack()}. Такое
+ * сравнение остаётся мономорфным и встраивается компилятором даже при смешении реализаций всех форматов.
+ *
+ * @see SingleVersion#compareTo(Version)
+ * @since 1.0.0-RC2
+ */
+final class VersionComparison {
+
+    private VersionComparison() {
+    }
+
+    /**
+     * Сравнивает переданные версии.
+     *
+     * @param first первая версия.
+     * @param second вторая версия.
+     *
+     * @return Отрицательное число, ноль или положительное число, если первая версия соответственно старее, такая же или
+     * новее второй.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int compare(final @NotNull SingleVersion first, final @NotNull SingleVersion second) {
+        if (format(first) != format(second)) {
+            VersionTelemetry.METRICS.compared(VersionMetrics.Dispatch.CROSS_TYPE);
+        }
+        if (first instanceof SingleVersion.Impl left && second instanceof SingleVersion.Impl right) {
+            VersionTelemetry.METRICS.compared(VersionMetrics.Dispatch.BUILT_IN);
+            final var result = Long.compare(pack(left), pack(right));
+            if (result != 0 || !(left instanceof MultiVersion.Impl) && !(right instanceof MultiVersion.Impl)) {
+                return result;
+            }
+            return compareRest(first, second);
+        }
+        VersionTelemetry.METRICS.compared(VersionMetrics.Dispatch.FOREIGN);
+        final var result = Long.compare(first.pack(), second.pack());
+        if (result != 0 || !(first instanceof MultiVersion) && !(second instanceof MultiVersion)) {
+            return result;
+        }
+        return compareRest(first, second);
+    }
+
+    /**
+     * Возвращает формат переданной версии: {@code 0} для одиночного, {@code 1} для двойного и {@code 2} для
+     * многокомпонентного формата. Формат не зависит от реализации, поэтому, например, кешированная версия двойного
+     * формата и созданная конструктором версия двойного формата имеют один формат.
+     *
+     * @param version версия.
+     *
+     * @return Формат версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int format(final @NotNull SingleVersion version) {
+        return version instanceof MultiVersion ? 2 : version instanceof DoubleVersion ? 1 : 0;
+    }
+
+    /**
+     * Сравнивает номера переданных версий, начиная с третьего, и их предварительные метки.
+     *
+     * @param first первая версия.
+     * @param second вторая версия.
+     *
+     * @return Отрицательное число, ноль или положительное число.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int compareRest(final @NotNull SingleVersion first, final @NotNull SingleVersion second) {
+        VersionTelemetry.METRICS.compared(VersionMetrics.Dispatch.EXTENDED);
+        final var length = Math.max(components(first), components(second));
+        for (var index = 2; index < length; ++index) {
+            final var component = Integer.compare(component(first, index), component(second, index));
+            if (component != 0) {
+                return component;
+            }
+        }
+        return comparePreReleases(preRelease(first), preRelease(second));
+    }
+
+    /**
+     * Сравнивает переданные предварительные метки по правилам семантического версионирования. Отсутствующая метка
+     * считается большей любой другой.
+     *
+     * @param first первая метка или {@code null}.
+     * @param second вторая метка или {@code null}.
+     *
+     * @return Отрицательное число, ноль или положительное число, если первая метка соответственно меньше, равна или
+     * больше второй.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int comparePreReleases(final @Nullable String first, final @Nullable String second) {
+        if (first == null || second == null) {
+            return first == null ? second == null ? 0 : 1 : -1;
+        }
+        var left = 0;
+        var right = 0;
+        while (left < first.length() && right < second.length()) {
+            final var leftEnd = end(first, left);
+            final var rightEnd = end(second, right);
+            final var result = compareIdentifiers(first, left, leftEnd, second, right, rightEnd);
+            if (result != 0) {
+                return result;
+            }
+            left = leftEnd + 1;
+            right = rightEnd + 1;
+        }
+        return Boolean.compare(left < first.length(), right < second.length());
+    }
+
+    /**
+     * Сравнивает переданные идентификаторы предварительных меток. Числовые идентификаторы сравниваются численно и
+     * меньше буквенно-цифровых, а буквенно-цифровые сравниваются посимвольно.
+     *
+     * @param first первая метка.
+     * @param firstStart начало идентификатора первой метки (включительно).
+     * @param firstEnd конец идентификатора первой метки (исключительно).
+     * @param second вторая метка.
+     * @param secondStart начало идентификатора второй метки (включительно).
+     * @param secondEnd конец идентификатора второй метки (исключительно).
+     *
+     * @return Отрицательное число, ноль или положительное число.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int compareIdentifiers(final @NotNull String first, final int firstStart, final int firstEnd,
+                                          final @NotNull String second, final int secondStart, final int secondEnd) {
+        final var firstNumeric = numeric(first, firstStart, firstEnd);
+        final var secondNumeric = numeric(second, secondStart, secondEnd);
+        if (firstNumeric != secondNumeric) {
+            return firstNumeric ? -1 : 1;
+        }
+        if (firstNumeric && firstEnd - firstStart != secondEnd - secondStart) {
+            return Integer.compare(firstEnd - firstStart, secondEnd - secondStart);
+        }
+        final var length = Math.min(firstEnd - firstStart, secondEnd - secondStart);
+        for (var index = 0; index < length; ++index) {
+            final var result = Character.compare(first.charAt(firstStart + index), second.charAt(secondStart + index));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(firstEnd - firstStart, secondEnd - secondStart);
+    }
+
+    /**
+     * Возвращает упакованную версию переданной встроенной реализации без виртуальных вызовов.
+     *
+     * @param version встроенная реализация.
+     *
+     * @return Упакованную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    static long pack(final @NotNull SingleVersion.Impl version) {
+        return (long) version.major << 32 | (version instanceof DoubleVersion.Impl doubled ? doubled.minor : 0);
+    }
+
+    /**
+     * Возвращает количество номеров переданной версии.
+     *
+     * @param version версия.
+     *
+     * @return Количество номеров.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int components(final @NotNull SingleVersion version) {
+        return version instanceof MultiVersion multi ? multi.components() : version instanceof DoubleVersion ? 2 : 1;
+    }
+
+    /**
+     * Возвращает номер переданной версии по переданному индексу или ноль, если такого номера нет.
+     *
+     * @param version версия.
+     * @param index индекс номера.
+     *
+     * @return Номер версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int component(final @NotNull SingleVersion version, final int index) {
+        return version instanceof MultiVersion multi ? multi.component(index) : 0;
+    }
+
+    /**
+     * Возвращает предварительную метку переданной версии или {@code null}, если её нет.
+     *
+     * @param version версия.
+     *
+     * @return Предварительную метку или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @Nullable String preRelease(final @NotNull SingleVersion version) {
+        return version instanceof MultiVersion multi ? multi.preRelease() : null;
+    }
+
+    /**
+     * Возвращает конец идентификатора, начинающегося с переданного индекса.
+     *
+     * @param label метка.
+     * @param start начало идентификатора.
+     *
+     * @return Конец идентификатора (исключительно).
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int end(final @NotNull String label, final int start) {
+        final var end = label.indexOf('.', start);
+        return end < 0 ? label.length() : end;
+    }
+
+    /**
+     * Возвращает истинное значение, если переданный участок метки состоит только из цифр, в противном случае — ложное
+     * значение.
+     *
+     * @param label метка.
+     * @param start начало участка (включительно).
+     * @param end конец участка (исключительно).
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static boolean numeric(final @NotNull String label, final int start, final int end) {
+        for (var index = start; index < end; ++index) {
+            final var character = label.charAt(index);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
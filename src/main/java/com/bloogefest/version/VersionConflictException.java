@@ -0,0 +1,35 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Nullable;
+
+import java.io.Serial;
+
+/**
+ * Исключение, выбрасываемое при невозможности выбрать версии модулей, удовлетворяющие всем ограничениям.
+ *
+ * @see DependencyResolver#resolve(java.util.Map)
+ * @since 1.0.0-RC2
+ */
+public class VersionConflictException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Создаёт исключение на основе переданного сообщения.
+     *
+     * @param message сообщение.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionConflictException(final @Nullable String message) {
+        super(message);
+    }
+
+}
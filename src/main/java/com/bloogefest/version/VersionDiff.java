@@ -0,0 +1,372 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Вычисление различий между двумя каталогами версий артефактов слиянием их упорядоченных строк.
+ * <p>
+ * Каталог читается как {@linkplain Source последовательность строк} (артефакт, упакованная версия), упорядоченная по
+ * названиям артефактов, а в пределах артефакта — по возрастанию версий. Названия упорядочиваются по кодовым точкам,
+ * что совпадает с порядком байтов в кодировке UTF-8 и порядком артефактов {@linkplain VersionIndex#rows() индекса
+ * версий}. Оба каталога читаются за один проход одновременно, поэтому время вычисления линейно от количества строк, а
+ * объём используемой памяти постоянен, и можно сравнивать каталоги, не помещающиеся в кучу.
+ * <p>
+ * Различия передаются {@linkplain Listener получателю} по мере обнаружения в порядке строк: для каждого артефакта
+ * сначала добавленные и удалённые версии, а затем повышение или понижение его наибольшей версии.
+ *
+ * @see Source
+ * @see Listener
+ * @since 1.0.0-RC2
+ */
+public final class VersionDiff {
+
+    private VersionDiff() {
+    }
+
+    /**
+     * Вычисляет различия между переданными старым и новым каталогами и передаёт их переданному получателю.
+     *
+     * @param older старый каталог.
+     * @param newer новый каталог.
+     * @param listener получатель различий.
+     *
+     * @see #diff(String, long[], long[], Listener)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null, !null -> _; _, _, _ -> fail")
+    public static void diff(final @NotNull Source older, final @NotNull Source newer,
+                            final @NotNull Listener listener) throws NullException, IOException {
+        final var left = new Cursor(Validator.notNull(older, "The passed older source"));
+        final var right = new Cursor(Validator.notNull(newer, "The passed newer source"));
+        Validator.notNull(listener, "The passed listener");
+        left.next();
+        right.next();
+        while (left.valid || right.valid) {
+            final String artifact;
+            if (!right.valid || left.valid && compare(left.artifact, right.artifact) <= 0) {
+                artifact = left.artifact;
+            } else {
+                artifact = right.artifact;
+            }
+            var lastOlder = VersionSet.NONE;
+            var lastNewer = VersionSet.NONE;
+            while (true) {
+                final var fromOlder = left.valid && left.artifact.equals(artifact);
+                final var fromNewer = right.valid && right.artifact.equals(artifact);
+                if (!fromOlder && !fromNewer) {
+                    break;
+                }
+                final var olderVersion = fromOlder ? left.version : Long.MAX_VALUE;
+                final var newerVersion = fromNewer ? right.version : Long.MAX_VALUE;
+                if (fromOlder && fromNewer && olderVersion == newerVersion) {
+                    lastOlder = olderVersion;
+                    lastNewer = newerVersion;
+                    left.next();
+                    right.next();
+                } else if (fromOlder && (!fromNewer || olderVersion < newerVersion)) {
+                    listener.removed(artifact, olderVersion);
+                    lastOlder = olderVersion;
+                    left.next();
+                } else {
+                    listener.added(artifact, newerVersion);
+                    lastNewer = newerVersion;
+                    right.next();
+                }
+            }
+            if (lastOlder != VersionSet.NONE && lastNewer != VersionSet.NONE) {
+                if (lastOlder < lastNewer) {
+                    listener.upgraded(artifact, lastOlder, lastNewer);
+                } else if (lastOlder > lastNewer) {
+                    listener.downgraded(artifact, lastOlder, lastNewer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Вычисляет различия между переданными отсортированными массивами упакованных версий одного артефакта и передаёт
+     * их переданному получателю.
+     *
+     * @param artifact название артефакта.
+     * @param older старые упакованные версии.
+     * @param newer новые упакованные версии.
+     * @param listener получатель различий.
+     *
+     * @see #diff(Source, Source, Listener)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null, !null, !null -> _; _, _, _, _ -> fail")
+    public static void diff(final @NotNull String artifact, final @NotNull long[] older, final @NotNull long[] newer,
+                            final @NotNull Listener listener) throws NullException {
+        try {
+            diff(Source.of(artifact, older), Source.of(artifact, newer), listener);
+        } catch (final IOException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    /**
+     * Сравнивает переданные названия артефактов по кодовым точкам.
+     *
+     * @param first первое название.
+     * @param second второе название.
+     *
+     * @return Отрицательное число, ноль или положительное число, если первое название соответственно меньше, равно или
+     * больше второго.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int compare(final @NotNull String first, final @NotNull String second) {
+        final var length = Math.min(first.length(), second.length());
+        for (var index = 0; index < length; ++index) {
+            final var left = first.charAt(index);
+            final var right = second.charAt(index);
+            if (left != right) {
+                // Суррогаты кодируют кодовые точки выше U+FFFF и должны быть больше остальных символов.
+                if (Character.isSurrogate(left) != Character.isSurrogate(right)) {
+                    return Character.isSurrogate(left) ? 1 : -1;
+                }
+                return left - right;
+            }
+        }
+        return first.length() - second.length();
+    }
+
+    /**
+     * Этот интерфейс описывает получателя различий между каталогами. Все методы по умолчанию ничего не делают.
+     *
+     * @see VersionDiff#diff(Source, Source, Listener)
+     * @since 1.0.0-RC2
+     */
+    public interface Listener {
+
+        /**
+         * Вызывается для версии, которая есть только в новом каталоге.
+         *
+         * @param artifact название артефакта.
+         * @param version упакованная версия.
+         *
+         * @since 1.0.0-RC2
+         */
+        default void added(final @NotNull String artifact, final long version) {
+        }
+
+        /**
+         * Вызывается для версии, которая есть только в старом каталоге.
+         *
+         * @param artifact название артефакта.
+         * @param version упакованная версия.
+         *
+         * @since 1.0.0-RC2
+         */
+        default void removed(final @NotNull String artifact, final long version) {
+        }
+
+        /**
+         * Вызывается, если наибольшая версия артефакта, который есть в обоих каталогах, в новом каталоге новее.
+         *
+         * @param artifact название артефакта.
+         * @param from наибольшая упакованная версия в старом каталоге.
+         * @param to наибольшая упакованная версия в новом каталоге.
+         *
+         * @since 1.0.0-RC2
+         */
+        default void upgraded(final @NotNull String artifact, final long from, final long to) {
+        }
+
+        /**
+         * Вызывается, если наибольшая версия артефакта, который есть в обоих каталогах, в новом каталоге старее.
+         *
+         * @param artifact название артефакта.
+         * @param from наибольшая упакованная версия в старом каталоге.
+         * @param to наибольшая упакованная версия в новом каталоге.
+         *
+         * @since 1.0.0-RC2
+         */
+        default void downgraded(final @NotNull String artifact, final long from, final long to) {
+        }
+
+    }
+
+    /**
+     * Этот интерфейс описывает последовательность строк каталога, упорядоченную по названиям артефактов по кодовым
+     * точкам, а в пределах артефакта — по возрастанию упакованных версий.
+     *
+     * @see VersionIndex#rows()
+     * @since 1.0.0-RC2
+     */
+    public interface Source {
+
+        /**
+         * Создаёт и возвращает последовательность строк одного артефакта на основе переданного отсортированного
+         * массива упакованных версий. Массив не копируется.
+         *
+         * @param artifact название артефакта.
+         * @param packed отсортированные упакованные версии.
+         *
+         * @return Последовательность строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> new; _, _ -> fail")
+        static @NotNull Source of(final @NotNull String artifact, final @NotNull long[] packed) throws NullException {
+            Validator.notNull(artifact, "The passed artifact");
+            Validator.notNull(packed, "The passed packed versions");
+            return new Source() {
+
+                private int index = -1;
+
+                @Override
+                public boolean advance() {
+                    return ++index < packed.length;
+                }
+
+                @Override
+                public @NotNull String artifact() {
+                    return artifact;
+                }
+
+                @Override
+                public long version() {
+                    return packed[index];
+                }
+
+            };
+        }
+
+        /**
+         * Создаёт и возвращает последовательность строк на основе переданного итератора пар из названия артефакта и
+         * версии.
+         *
+         * @param rows итератор строк.
+         *
+         * @return Последовательность строк.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null -> new; _ -> fail")
+        static @NotNull Source of(final @NotNull Iterator<? extends Map.Entry<String, ? extends SingleVersion>> rows)
+                throws NullException {
+            Validator.notNull(rows, "The passed rows");
+            return new Source() {
+
+                private String artifact;
+
+                private long version;
+
+                @Override
+                public boolean advance() throws NullException {
+                    if (!rows.hasNext()) {
+                        return false;
+                    }
+                    final var row = Validator.notNull(rows.next(), "The passed row");
+                    artifact = Validator.notNull(row.getKey(), "The passed artifact");
+                    version = Validator.notNull(row.getValue(), "The passed version").pack();
+                    return true;
+                }
+
+                @Override
+                public @NotNull String artifact() {
+                    return artifact;
+                }
+
+                @Override
+                public long version() {
+                    return version;
+                }
+
+            };
+        }
+
+        /**
+         * Переходит к следующей строке.
+         *
+         * @return Истинное значение, если строка есть, в противном случае — ложное значение.
+         *
+         * @since 1.0.0-RC2
+         */
+        boolean advance() throws NullException, IOException;
+
+        /**
+         * Возвращает название артефакта текущей строки.
+         *
+         * @return Название артефакта.
+         *
+         * @since 1.0.0-RC2
+         */
+        @NotNull String artifact();
+
+        /**
+         * Возвращает упакованную версию текущей строки.
+         *
+         * @return Упакованная версия.
+         *
+         * @since 1.0.0-RC2
+         */
+        long version();
+
+    }
+
+    /**
+     * Курсор последовательности строк, проверяющий её порядок.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Cursor {
+
+        private final Source source;
+
+        private boolean valid;
+
+        private String artifact;
+
+        private long version = VersionSet.NONE;
+
+        private Cursor(final @NotNull Source source) {
+            this.source = source;
+        }
+
+        /**
+         * Переходит к следующей строке, отличающейся от предыдущей, и проверяет, что она больше предыдущей.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void next() throws NullException, IOException {
+            final var previousArtifact = artifact;
+            final var previousVersion = version;
+            while (valid = source.advance()) {
+                artifact = source.artifact();
+                version = source.version();
+                if (version < 0) {
+                    throw new IllegalArgumentException("The passed source contains a negative packed version");
+                }
+                if (previousArtifact == null) {
+                    return;
+                }
+                final var order = previousArtifact.equals(artifact) ? Long.compare(previousVersion, version)
+                                                                     : compare(previousArtifact, artifact);
+                if (order > 0) {
+                    throw new IllegalArgumentException("The passed source is not sorted");
+                }
+                if (order < 0) {
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
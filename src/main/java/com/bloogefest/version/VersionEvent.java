@@ -0,0 +1,75 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR, записываемое {@linkplain VersionMetrics.Jfr приёмником метрик} при создании, разборе и сравнении
+ * версий. Событие по умолчанию выключено и записывается со стеком вызовов; его можно включить в настройках записи по
+ * названию {@value #NAME}.
+ *
+ * @see VersionMetrics.Jfr
+ * @since 1.0.0-RC2
+ */
+@Name(VersionEvent.NAME)
+@Label("Version Operation")
+@Category("BF.Version")
+@Description("Creation, interning, parsing or comparison of a version")
+@Enabled(false)
+@StackTrace
+public final class VersionEvent extends Event {
+
+    /**
+     * Название события.
+     *
+     * @since 1.0.0-RC2
+     */
+    public static final String NAME = "com.bloogefest.version.Operation";
+
+    /**
+     * Операция: {@code created}, {@code interned}, {@code parsed} или {@code compared}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Label("Operation")
+    public String operation;
+
+    /**
+     * Подробность операции: результат обращения к кешу или разбора либо путь сравнения.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Label("Detail")
+    public String detail;
+
+    /**
+     * Записывает событие с переданными операцией и подробностью, если событие включено.
+     *
+     * @param operation операция.
+     * @param detail подробность операции.
+     *
+     * @since 1.0.0-RC2
+     */
+    static void emit(final @NotNull String operation, final @NotNull String detail) {
+        final var event = new VersionEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.detail = detail;
+            event.commit();
+        }
+    }
+
+}
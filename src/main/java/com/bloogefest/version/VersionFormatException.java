@@ -0,0 +1,35 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Nullable;
+
+import java.io.Serial;
+
+/**
+ * Исключение, выбрасываемое при невозможности разобрать версию из переданных данных.
+ *
+ * @see Version#parse(CharSequence)
+ * @since 1.0.0-RC2
+ */
+public class VersionFormatException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Создаёт исключение на основе переданного сообщения.
+     *
+     * @param message сообщение.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionFormatException(final @Nullable String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,321 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Ядро форматирования версий всех форматов.
+ * <p>
+ * Цифры номеров записываются напрямую в переданный приёмник, без промежуточных строк. Предварительные метки и метки
+ * сборки {@linkplain MultiVersion многокомпонентных версий} состоят только из символов ASCII, поэтому записываются
+ * посимвольно.
+ *
+ * @see SingleVersion#formatTo(StringBuilder)
+ * @since 1.0.0-RC2
+ */
+final class VersionFormatter {
+
+    private VersionFormatter() {
+    }
+
+    /**
+     * Возвращает количество символов текстового представления переданной версии.
+     *
+     * @param version версия.
+     *
+     * @return Количество символов.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int length(final @NotNull SingleVersion version) {
+        var length = digits(version.major());
+        final var components = components(version);
+        for (var index = 1; index < components; ++index) {
+            length += 1 + digits(component(version, index));
+        }
+        if (version instanceof MultiVersion multi) {
+            length += length(multi.preRelease()) + length(multi.build());
+        }
+        return length;
+    }
+
+    /**
+     * Записывает текстовое представление переданной версии в переданный построитель строк.
+     *
+     * @param version версия.
+     * @param builder построитель строк.
+     *
+     * @return Переданный построитель строк.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull StringBuilder format(final @NotNull SingleVersion version, final @NotNull StringBuilder builder) {
+        builder.append(version.major());
+        final var components = components(version);
+        for (var index = 1; index < components; ++index) {
+            builder.append('.').append(component(version, index));
+        }
+        if (version instanceof MultiVersion multi) {
+            if (multi.preRelease() != null) {
+                builder.append('-').append(multi.preRelease());
+            }
+            if (multi.build() != null) {
+                builder.append('+').append(multi.build());
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Записывает текстовое представление переданной версии в переданный приёмник символов.
+     *
+     * @param version версия.
+     * @param appendable приёмник символов.
+     *
+     * @return Переданный приёмник символов.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull Appendable format(final @NotNull SingleVersion version, final @NotNull Appendable appendable)
+            throws IOException {
+        append(appendable, version.major());
+        final var components = components(version);
+        for (var index = 1; index < components; ++index) {
+            append(appendable.append('.'), component(version, index));
+        }
+        if (version instanceof MultiVersion multi) {
+            if (multi.preRelease() != null) {
+                appendable.append('-').append(multi.preRelease());
+            }
+            if (multi.build() != null) {
+                appendable.append('+').append(multi.build());
+            }
+        }
+        return appendable;
+    }
+
+    /**
+     * Записывает текстовое представление переданной версии в кодировке ASCII в переданный массив байтов. Границы не
+     * проверяются.
+     *
+     * @param version версия.
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int format(final @NotNull SingleVersion version, final @NotNull byte[] bytes, final int offset) {
+        var position = put(bytes, offset, version.major());
+        final var components = components(version);
+        for (var index = 1; index < components; ++index) {
+            bytes[position++] = '.';
+            position = put(bytes, position, component(version, index));
+        }
+        if (version instanceof MultiVersion multi) {
+            position = put(bytes, position, '-', multi.preRelease());
+            position = put(bytes, position, '+', multi.build());
+        }
+        return position;
+    }
+
+    /**
+     * Записывает текстовое представление переданной версии в кодировке ASCII в переданный буфер байтов по абсолютному
+     * индексу. Границы не проверяются, а позиция буфера не изменяется.
+     *
+     * @param version версия.
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int format(final @NotNull SingleVersion version, final @NotNull ByteBuffer buffer, final int offset) {
+        var position = put(buffer, offset, version.major());
+        final var components = components(version);
+        for (var index = 1; index < components; ++index) {
+            buffer.put(position++, (byte) '.');
+            position = put(buffer, position, component(version, index));
+        }
+        if (version instanceof MultiVersion multi) {
+            position = put(buffer, position, '-', multi.preRelease());
+            position = put(buffer, position, '+', multi.build());
+        }
+        return position;
+    }
+
+    /**
+     * Возвращает количество десятичных цифр переданного неотрицательного числа.
+     *
+     * @param value число.
+     *
+     * @return Количество цифр.
+     *
+     * @since 1.0.0-RC2
+     */
+    static int digits(final int value) {
+        var length = 1;
+        for (var bound = 10L; value >= bound; bound *= 10) {
+            ++length;
+        }
+        return length;
+    }
+
+    /**
+     * Возвращает количество номеров переданной версии.
+     *
+     * @param version версия.
+     *
+     * @return Количество номеров.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int components(final @NotNull SingleVersion version) {
+        return version instanceof MultiVersion multi ? multi.components() : version instanceof DoubleVersion ? 2 : 1;
+    }
+
+    /**
+     * Возвращает номер переданной версии по переданному индексу, начиная с первого.
+     *
+     * @param version версия.
+     * @param index индекс номера.
+     *
+     * @return Номер версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int component(final @NotNull SingleVersion version, final int index) {
+        return version instanceof MultiVersion multi ? multi.component(index) : ((DoubleVersion) version).minor();
+    }
+
+    /**
+     * Возвращает количество символов переданной метки вместе с разделителем.
+     *
+     * @param label метка или {@code null}.
+     *
+     * @return Количество символов или ноль, если метки нет.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int length(final @Nullable String label) {
+        return label == null ? 0 : 1 + label.length();
+    }
+
+    /**
+     * Записывает десятичные цифры переданного неотрицательного числа в переданный приёмник символов.
+     *
+     * @param appendable приёмник символов.
+     * @param value число.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void append(final @NotNull Appendable appendable, final int value) throws IOException {
+        var divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            appendable.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Записывает десятичные цифры переданного неотрицательного числа в переданный массив байтов.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     * @param value число.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int put(final @NotNull byte[] bytes, final int offset, int value) {
+        final var end = offset + digits(value);
+        var position = end;
+        do {
+            bytes[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    /**
+     * Записывает десятичные цифры переданного неотрицательного числа в переданный буфер байтов.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение.
+     * @param value число.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int put(final @NotNull ByteBuffer buffer, final int offset, int value) {
+        final var end = offset + digits(value);
+        var position = end;
+        do {
+            buffer.put(--position, (byte) ('0' + value % 10));
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    /**
+     * Записывает переданные разделитель и метку в переданный массив байтов, если метка есть.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     * @param separator разделитель.
+     * @param label метка или {@code null}.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int put(final @NotNull byte[] bytes, int offset, final char separator,
+                           final @Nullable String label) {
+        if (label != null) {
+            bytes[offset++] = (byte) separator;
+            for (var index = 0; index < label.length(); ++index) {
+                bytes[offset++] = (byte) label.charAt(index);
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Записывает переданные разделитель и метку в переданный буфер байтов, если метка есть.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение.
+     * @param separator разделитель.
+     * @param label метка или {@code null}.
+     *
+     * @return Смещение после записанных байтов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int put(final @NotNull ByteBuffer buffer, int offset, final char separator,
+                           final @Nullable String label) {
+        if (label != null) {
+            buffer.put(offset++, (byte) separator);
+            for (var index = 0; index < label.length(); ++index) {
+                buffer.put(offset++, (byte) label.charAt(index));
+            }
+        }
+        return offset;
+    }
+
+}
@@ -0,0 +1,779 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+
+/**
+ * Неизменяемый индекс версий артефактов, хранящийся в файле и отображаемый в память.
+ * <p>
+ * Файл индекса состоит из заголовка, упакованных версий фиксированной ширины, отсортированных по возрастанию в
+ * пределах каждого артефакта, названий артефактов в кодировке UTF-8 и каталога артефактов фиксированной ширины,
+ * отсортированного по байтам названий. Все числа записываются в порядке от старшего байта к младшему.
+ * <p>
+ * {@linkplain #open(Path) Открытие} индекса только отображает файл в память областями размером не более
+ * {@value Versions#REGION} байтов и не читает версии в кучу. Поиск артефакта и версий выполняется двоичным поиском
+ * непосредственно по отображённым байтам, поэтому один файл могут одновременно читать многие потоки и процессы.
+ * Индекс создаётся {@linkplain Writer построителем}, записывающим версии в файл по мере поступления.
+ *
+ * @see Writer
+ * @since 1.0.0-RC2
+ */
+public final class VersionIndex {
+
+    /**
+     * Сигнатура файла индекса.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int MAGIC = 0x42465649;
+
+    /**
+     * Версия формата файла индекса.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int FORMAT = 1;
+
+    /**
+     * Размер заголовка в байтах.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int HEADER = 64;
+
+    /**
+     * Размер записи каталога в байтах: смещение и длина названия, номер первой версии и количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int ENTRY = 32;
+
+    /**
+     * Количество версий в одной отображаемой области.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int REGION_VERSIONS = Versions.REGION / Long.BYTES;
+
+    /**
+     * Области упакованных версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final ByteBuffer[] regions;
+
+    /**
+     * Названия артефактов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final ByteBuffer names;
+
+    /**
+     * Каталог артефактов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final ByteBuffer directory;
+
+    /**
+     * Количество артефактов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int artifacts;
+
+    /**
+     * Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long size;
+
+    private VersionIndex(final @NotNull ByteBuffer[] regions, final @NotNull ByteBuffer names,
+                         final @NotNull ByteBuffer directory, final int artifacts, final long size) {
+        this.regions = regions;
+        this.names = names;
+        this.directory = directory;
+        this.artifacts = artifacts;
+        this.size = size;
+    }
+
+    /**
+     * Открывает и возвращает индекс, хранящийся в переданном файле. Файл отображается в память только для чтения и
+     * не должен изменяться, пока индекс используется.
+     *
+     * @param path путь к файлу.
+     *
+     * @return Индекс версий.
+     *
+     * @see #writer(Path)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionIndex open(final @NotNull Path path)
+            throws NullException, IOException, VersionFormatException {
+        try (final var channel = FileChannel.open(Validator.notNull(path, "The passed path"),
+                                                  StandardOpenOption.READ)) {
+            final var fileSize = channel.size();
+            if (fileSize < HEADER) {
+                throw new VersionFormatException("The passed file is not a version index");
+            }
+            final var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            final var size = header.getLong(8);
+            final var namesOffset = header.getLong(16);
+            final var namesLength = header.getLong(24);
+            final var directoryOffset = header.getLong(32);
+            final var artifacts = header.getInt(40);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT || size < 0
+                || size > (fileSize - HEADER) / Long.BYTES || namesOffset != HEADER + size * Long.BYTES
+                || namesLength < 0 || namesLength > Integer.MAX_VALUE || directoryOffset != namesOffset + namesLength
+                || artifacts < 0 || artifacts > Integer.MAX_VALUE / ENTRY
+                || (long) artifacts * ENTRY != fileSize - directoryOffset) {
+                throw new VersionFormatException("The passed file is not a version index");
+            }
+            final var regions = new ByteBuffer[(int) ((size + REGION_VERSIONS - 1) / REGION_VERSIONS)];
+            for (var region = 0; region < regions.length; ++region) {
+                final var first = (long) region * REGION_VERSIONS;
+                final var length = Math.min(REGION_VERSIONS, size - first) * Long.BYTES;
+                regions[region] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER + first * Long.BYTES, length);
+            }
+            final var names = channel.map(FileChannel.MapMode.READ_ONLY, namesOffset, namesLength);
+            final var directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset,
+                                              (long) artifacts * ENTRY);
+            ByteBuffer previous = null;
+            for (var artifact = 0; artifact < artifacts; ++artifact) {
+                final var nameOffset = directory.getLong(artifact * ENTRY);
+                final var nameLength = directory.getInt(artifact * ENTRY + 8);
+                final var start = directory.getLong(artifact * ENTRY + 16);
+                final var count = directory.getLong(artifact * ENTRY + 24);
+                if (nameOffset < 0 || nameLength < 0 || nameLength > namesLength - nameOffset || start < 0
+                    || count < 0 || count > size - start) {
+                    throw new VersionFormatException("The passed file is not a version index");
+                }
+                final var name = names.slice((int) nameOffset, nameLength);
+                if (previous != null && !precedes(previous, name)) {
+                    throw new VersionFormatException("The passed file is not a version index");
+                }
+                previous = name;
+            }
+            return new VersionIndex(regions, names, directory, artifacts, size);
+        }
+    }
+
+    /**
+     * Создаёт и возвращает построитель, записывающий индекс в переданный файл. Существующий файл перезаписывается.
+     *
+     * @param path путь к файлу.
+     *
+     * @return Построитель индекса.
+     *
+     * @see #open(Path)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull Writer writer(final @NotNull Path path) throws NullException, IOException {
+        return new Writer(FileChannel.open(Validator.notNull(path, "The passed path"), StandardOpenOption.CREATE,
+                                           StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Возвращает количество артефактов.
+     *
+     * @return Количество артефактов.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int artifacts() {
+        return artifacts;
+    }
+
+    /**
+     * Возвращает название артефакта с переданным номером в порядке байтов названий.
+     *
+     * @param index номер артефакта.
+     *
+     * @return Название артефакта.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> new")
+    public @NotNull String artifact(final int index) throws IndexOutOfBoundsException {
+        final var entry = Objects.checkIndex(index, artifacts) * ENTRY;
+        final var bytes = new byte[directory.getInt(entry + 8)];
+        names.get((int) directory.getLong(entry), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Возвращает общее количество версий всех артефактов.
+     *
+     * @return Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = 0, to = Long.MAX_VALUE) long size() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество версий переданного артефакта, удовлетворяющих переданному ограничению.
+     *
+     * @param artifact название артефакта.
+     * @param range ограничение.
+     *
+     * @return Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public @Range(from = 0, to = Long.MAX_VALUE) long count(final @NotNull String artifact,
+                                                            final @NotNull VersionRange range) throws NullException {
+        Validator.notNull(range, "The passed range");
+        final var entry = find(artifact);
+        if (entry < 0) {
+            return 0;
+        }
+        final var start = directory.getLong(entry + 16);
+        final var end = start + directory.getLong(entry + 24);
+        var count = 0L;
+        for (var interval = 0; interval < range.intervals(); ++interval) {
+            count += lowerBound(start, end, range.end(interval)) - lowerBound(start, end, range.start(interval));
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает истинное значение, если индекс содержит переданную упакованную версию переданного артефакта, в
+     * противном случае — ложное значение.
+     *
+     * @param artifact название артефакта.
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    public boolean contains(final @NotNull String artifact, final long version) throws NullException {
+        final var entry = find(artifact);
+        if (entry < 0) {
+            return false;
+        }
+        final var start = directory.getLong(entry + 16);
+        final var end = start + directory.getLong(entry + 24);
+        final var index = lowerBound(start, end, version);
+        return index < end && get(index) == version;
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию переданного артефакта, удовлетворяющую переданному ограничению, или
+     * {@link VersionSet#NONE}, если такой версии нет.
+     *
+     * @param artifact название артефакта.
+     * @param range ограничение.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public long bestMatch(final @NotNull String artifact, final @NotNull VersionRange range) throws NullException {
+        Validator.notNull(range, "The passed range");
+        final var entry = find(artifact);
+        if (entry < 0) {
+            return VersionSet.NONE;
+        }
+        final var start = directory.getLong(entry + 16);
+        final var end = start + directory.getLong(entry + 24);
+        for (var interval = range.intervals() - 1; interval >= 0; --interval) {
+            final var index = lowerBound(start, end, range.end(interval)) - 1;
+            if (index >= start && get(index) >= range.start(interval)) {
+                return get(index);
+            }
+        }
+        return VersionSet.NONE;
+    }
+
+    /**
+     * Возвращает множество всех версий переданного артефакта.
+     *
+     * @param artifact название артефакта.
+     *
+     * @return Множество версий.
+     *
+     * @see #versions(String, VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull VersionSet versions(final @NotNull String artifact) throws NullException {
+        return versions(artifact, VersionRange.all());
+    }
+
+    /**
+     * Возвращает множество версий переданного артефакта, удовлетворяющих переданному ограничению. Версии копируются
+     * из отображённого файла в кучу.
+     *
+     * @param artifact название артефакта.
+     * @param range ограничение.
+     *
+     * @return Множество версий.
+     *
+     * @see #count(String, VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public @NotNull VersionSet versions(final @NotNull String artifact, final @NotNull VersionRange range)
+            throws NullException {
+        final var count = count(artifact, range);
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The requested versions do not fit into a version set");
+        }
+        final var result = new long[(int) count];
+        if (count == 0) {
+            return VersionSet.ofSorted(result);
+        }
+        final var entry = find(artifact);
+        final var start = directory.getLong(entry + 16);
+        final var end = start + directory.getLong(entry + 24);
+        var size = 0;
+        for (var interval = 0; interval < range.intervals(); ++interval) {
+            final var to = lowerBound(start, end, range.end(interval));
+            for (var index = lowerBound(start, end, range.start(interval)); index < to; ++index) {
+                result[size++] = get(index);
+            }
+        }
+        return VersionSet.ofSorted(result);
+    }
+
+    /**
+     * Возвращает последовательность всех строк индекса в порядке артефактов и версий для
+     * {@linkplain VersionDiff#diff(VersionDiff.Source, VersionDiff.Source, VersionDiff.Listener) вычисления различий}.
+     * Версии читаются непосредственно из отображённого файла.
+     *
+     * @return Последовательность строк.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull VersionDiff.Source rows() {
+        return new VersionDiff.Source() {
+
+            private int artifact = -1;
+
+            private String name;
+
+            private long index;
+
+            private long end;
+
+            @Override
+            public boolean advance() {
+                while (++index >= end) {
+                    if (++artifact >= artifacts) {
+                        index = end;
+                        artifact = artifacts;
+                        return false;
+                    }
+                    name = VersionIndex.this.artifact(artifact);
+                    index = directory.getLong(artifact * ENTRY + 16) - 1;
+                    end = index + 1 + directory.getLong(artifact * ENTRY + 24);
+                }
+                return true;
+            }
+
+            @Override
+            public @NotNull String artifact() {
+                return name;
+            }
+
+            @Override
+            public long version() {
+                return get(index);
+            }
+
+        };
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionIndex[artifacts=" + artifacts + ", size=" + size + "]";
+    }
+
+    /**
+     * Возвращает истинное значение, если первое название строго предшествует второму в порядке байтов без знака, в
+     * котором {@linkplain #find(String) ищутся} артефакты, в противном случае — ложное значение.
+     *
+     * @param first первое название.
+     * @param second второе название.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static boolean precedes(final @NotNull ByteBuffer first, final @NotNull ByteBuffer second) {
+        final var index = first.mismatch(second);
+        if (index < 0) {
+            return false;
+        }
+        if (index == first.limit() || index == second.limit()) {
+            return first.limit() < second.limit();
+        }
+        return Byte.compareUnsigned(first.get(index), second.get(index)) < 0;
+    }
+
+    /**
+     * Возвращает смещение записи каталога переданного артефакта или {@code -1}, если его нет.
+     *
+     * @param artifact название артефакта.
+     *
+     * @return Смещение записи или {@code -1}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private int find(final @NotNull String artifact) throws NullException {
+        final var name = Validator.notNull(artifact, "The passed artifact").getBytes(StandardCharsets.UTF_8);
+        var low = 0;
+        var high = artifacts - 1;
+        while (low <= high) {
+            final var middle = low + high >>> 1;
+            final var entry = middle * ENTRY;
+            final var offset = (int) directory.getLong(entry);
+            final var length = directory.getInt(entry + 8);
+            final var limit = Math.min(length, name.length);
+            var result = 0;
+            for (var index = 0; result == 0 && index < limit; ++index) {
+                result = Byte.compareUnsigned(names.get(offset + index), name[index]);
+            }
+            if (result == 0) {
+                result = Integer.compare(length, name.length);
+            }
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает упакованную версию с переданным номером.
+     *
+     * @param index номер версии.
+     *
+     * @return Упакованную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private long get(final long index) {
+        return regions[(int) (index / REGION_VERSIONS)].getLong((int) (index % REGION_VERSIONS) * Long.BYTES);
+    }
+
+    /**
+     * Возвращает номер первой версии в переданном полуинтервале номеров, не меньшей переданной упакованной версии.
+     *
+     * @param from начальный номер (включительно).
+     * @param to конечный номер (исключительно).
+     * @param version упакованная версия.
+     *
+     * @return Номер версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private long lowerBound(final long from, final long to, final long version) {
+        var low = from;
+        var high = to;
+        while (low < high) {
+            final var middle = low + high >>> 1;
+            if (get(middle) < version) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Построитель {@linkplain VersionIndex индекса версий}, записывающий версии в файл по мере поступления.
+     * <p>
+     * Версии каждого артефакта должны поступать подряд и по возрастанию; повторы подряд пропускаются. Порядок
+     * артефактов произвольный. В памяти хранятся только названия артефактов и их каталог, а сигнатура файла
+     * записывается при {@linkplain #close() завершении}, поэтому незавершённый файл не откроется как индекс.
+     * Построитель не является потокобезопасным.
+     *
+     * @see VersionIndex#writer(Path)
+     * @since 1.0.0-RC2
+     */
+    public static final class Writer implements Closeable {
+
+        /**
+         * Канал файла.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final FileChannel channel;
+
+        /**
+         * Буфер записи.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.BIG_ENDIAN);
+
+        /**
+         * Записанные артефакты.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final ArrayList<Artifact> written = new ArrayList<>();
+
+        /**
+         * Названия записанных артефактов.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final HashSet<String> seen = new HashSet<>();
+
+        /**
+         * Текущий артефакт или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private String current;
+
+        /**
+         * Номер первой версии текущего артефакта.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long start;
+
+        /**
+         * Последняя упакованная версия текущего артефакта.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long last = VersionSet.NONE;
+
+        /**
+         * Количество записанных версий.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long size;
+
+        /**
+         * Завершена ли запись.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean closed;
+
+        private Writer(final @NotNull FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER);
+        }
+
+        /**
+         * Добавляет переданную упакованную версию переданного артефакта.
+         *
+         * @param artifact название артефакта.
+         * @param version упакованная версия.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #add(String, SingleVersion)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, _ -> this; _, _ -> fail")
+        public @NotNull Writer add(final @NotNull String artifact, final long version)
+                throws NullException, IOException {
+            Validator.notNull(artifact, "The passed artifact");
+            if (closed) {
+                throw new IllegalStateException("The writer is closed");
+            }
+            if (version < 0) {
+                throw new IllegalArgumentException("The passed packed version cannot be negative");
+            }
+            if (!artifact.equals(current)) {
+                if (!seen.add(artifact)) {
+                    throw new IllegalArgumentException("The passed artifact has already been written");
+                }
+                finish();
+                current = artifact;
+                start = size;
+            } else if (version < last) {
+                throw new IllegalArgumentException("The passed version is older than the previous one");
+            } else if (version == last) {
+                return this;
+            }
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putLong(version);
+            last = version;
+            ++size;
+            return this;
+        }
+
+        /**
+         * Добавляет переданную версию переданного артефакта.
+         *
+         * @param artifact название артефакта.
+         * @param version версия.
+         *
+         * @return Текущий построитель.
+         *
+         * @see #add(String, long)
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Writer add(final @NotNull String artifact, final @NotNull SingleVersion version)
+                throws NullException, IOException {
+            return add(artifact, Validator.notNull(version, "The passed version").pack());
+        }
+
+        /**
+         * Записывает названия и каталог артефактов и заголовок и закрывает файл. Повторный вызов ничего не делает.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (channel) {
+                finish();
+                written.sort((first, second) -> Arrays.compareUnsigned(first.name, second.name));
+                final var namesOffset = HEADER + size * Long.BYTES;
+                var namesLength = 0L;
+                for (final var artifact : written) {
+                    put(artifact.name);
+                    namesLength += artifact.name.length;
+                }
+                if (namesLength > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("The artifact names are too long for a version index");
+                }
+                var nameOffset = 0L;
+                for (final var artifact : written) {
+                    ensure(ENTRY);
+                    buffer.putLong(nameOffset).putInt(artifact.name.length).putInt(0);
+                    buffer.putLong(artifact.start).putLong(artifact.count);
+                    nameOffset += artifact.name.length;
+                }
+                flush();
+                final var header = ByteBuffer.allocate(HEADER);
+                header.putInt(MAGIC).putInt(FORMAT).putLong(size).putLong(namesOffset).putLong(namesLength);
+                header.putLong(namesOffset + namesLength).putInt(written.size()).flip();
+                header.limit(HEADER);
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            }
+        }
+
+        /**
+         * Завершает текущий артефакт.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void finish() {
+            if (current != null) {
+                written.add(new Artifact(current.getBytes(StandardCharsets.UTF_8), start, size - start));
+                current = null;
+                last = VersionSet.NONE;
+            }
+        }
+
+        /**
+         * Записывает переданные байты через буфер.
+         *
+         * @param bytes байты.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void put(final @NotNull byte[] bytes) throws IOException {
+            for (var offset = 0; offset < bytes.length; ) {
+                ensure(1);
+                final var length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        /**
+         * Освобождает в буфере переданное количество байтов, при необходимости записывая его.
+         *
+         * @param bytes количество байтов.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void ensure(final int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        /**
+         * Записывает содержимое буфера в файл.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Записанный артефакт.
+         *
+         * @param name название в кодировке UTF-8.
+         * @param start номер первой версии.
+         * @param count количество версий.
+         *
+         * @since 1.0.0-RC2
+         */
+        private record Artifact(@NotNull byte[] name, long start, long count) {
+
+        }
+
+    }
+
+}
@@ -0,0 +1,530 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ограниченный кеш результатов разбора версий одиночного и двойного формата, ключом которого являются исходные
+ * символы версии.
+ * <p>
+ * Если строка версии уже разбиралась, то возвращается тот же канонический экземпляр версии без повторного разбора и
+ * создания объектов. Строки, не являющиеся версиями, не кешируются. Массивы байтов, буферы байтов и последовательности
+ * символов с одинаковыми символами ASCII разделяют одни и те же записи.
+ * <p>
+ * Записи хранятся в наборах по {@value #WAYS} записи, выбираемых по хешу и длине строки. Чтение записей не
+ * блокируется, а добавление выполняется под блокировкой только при промахе. Если набор заполнен, то запись для
+ * вытеснения выбирается по алгоритму «часы» (второй шанс): каждое попадание отмечает запись, а стрелка набора снимает
+ * отметки и вытесняет первую неотмеченную запись. Поэтому часто встречающиеся строки остаются в кеше, а однократно
+ * встреченные вытесняются первыми.
+ * <p>
+ * Кеш является потокобезопасным и ведёт {@linkplain #hitRate() статистику обращений}.
+ *
+ * @see Version#tryParse(byte[], int, int)
+ * @since 1.0.0-RC2
+ */
+public final class VersionInterner {
+
+    /**
+     * Количество записей в одном наборе.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int WAYS = 4;
+
+    /**
+     * Дескриптор элементов массива записей с семантикой захвата и освобождения.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final VarHandle ENTRIES = MethodHandles.arrayElementVarHandle(Entry[].class);
+
+    /**
+     * Записи, сгруппированные в наборы по {@value #WAYS} записи.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final Entry[] entries;
+
+    /**
+     * Позиции стрелок наборов. Изменяются только под блокировкой кеша.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final byte[] hands;
+
+    /**
+     * Маска номера набора.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Создаёт кеш с переданной вместимостью. Вместимость округляется вверх до степени двойки не меньше
+     * {@value #WAYS}.
+     *
+     * @param capacity наибольшее количество записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionInterner(final @Range(from = 1, to = 1 << 30) int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The passed capacity is out of range");
+        }
+        final var size = Math.max(Integer.highestOneBit(capacity * 2 - 1), WAYS);
+        entries = new Entry[size];
+        hands = new byte[size / WAYS];
+        mask = size / WAYS - 1;
+    }
+
+    /**
+     * Возвращает вместимость кеша.
+     *
+     * @return Наибольшее количество записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = WAYS, to = 1 << 30) int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка массива байтов в кодировке
+     * ASCII, используя кеш.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию одиночного или двойного формата.
+     *
+     * @see Version#parse(byte[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> _; _, _, _ -> fail")
+    public @NotNull SingleVersion parse(final @NotNull byte[] bytes, final int offset, final int length)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(bytes, "The passed bytes").length);
+        return require(lookup(bytes, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка буфера байтов в кодировке
+     * ASCII, используя кеш. Позиция буфера не изменяется.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию одиночного или двойного формата.
+     *
+     * @see Version#parse(ByteBuffer, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, _ -> _; _, _, _ -> fail")
+    public @NotNull SingleVersion parse(final @NotNull ByteBuffer buffer, final int offset, final int length)
+            throws NullException, IndexOutOfBoundsException, VersionFormatException {
+        Objects.checkFromIndexSize(offset, length, Validator.notNull(buffer, "The passed buffer").limit());
+        return require(lookup(buffer, offset, length));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданной последовательности символов,
+     * используя кеш.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor]}.
+     *
+     * @return Каноническую версию одиночного или двойного формата.
+     *
+     * @see Version#parse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @NotNull SingleVersion parse(final @NotNull CharSequence sequence)
+            throws NullException, VersionFormatException {
+        Validator.notNull(sequence, "The passed sequence");
+        return require(lookup(sequence));
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка массива байтов в кодировке
+     * ASCII, используя кеш, или {@code null}, если участок не является версией или выходит за границы массива.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию одиночного или двойного формата или {@code null}.
+     *
+     * @see Version#tryParse(byte[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> null")
+    public @Nullable SingleVersion tryParse(final @Nullable byte[] bytes, final int offset, final int length) {
+        return bytes == null || VersionParser.outside(offset, length, bytes.length)
+               ? null
+               : lookup(bytes, offset, length);
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданного участка буфера байтов в кодировке
+     * ASCII, используя кеш, или {@code null}, если участок не является версией или выходит за границы буфера. Позиция
+     * буфера не изменяется.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию одиночного или двойного формата или {@code null}.
+     *
+     * @see Version#tryParse(ByteBuffer, int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> null")
+    public @Nullable SingleVersion tryParse(final @Nullable ByteBuffer buffer, final int offset, final int length) {
+        return buffer == null || VersionParser.outside(offset, length, buffer.limit())
+               ? null
+               : lookup(buffer, offset, length);
+    }
+
+    /**
+     * Разбирает и возвращает версию одиночного или двойного формата из переданной последовательности символов,
+     * используя кеш, или {@code null}, если последовательность не является версией.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor]}.
+     *
+     * @return Каноническую версию одиночного или двойного формата или {@code null}.
+     *
+     * @see Version#tryParse(CharSequence)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null -> null")
+    public @Nullable SingleVersion tryParse(final @Nullable CharSequence sequence) {
+        return sequence == null ? null : lookup(sequence);
+    }
+
+    /**
+     * Возвращает количество попаданий.
+     *
+     * @return Количество обращений.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Возвращает количество промахов, включая строки, не являющиеся версиями.
+     *
+     * @return Количество обращений.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Возвращает количество вытесненных записей.
+     *
+     * @return Количество записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Возвращает долю попаданий среди всех обращений или ноль, если обращений не было.
+     *
+     * @return Долю попаданий от нуля до единицы.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public double hitRate() {
+        final var hits = this.hits.sum();
+        final var total = hits + misses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Обнуляет статистику обращений. Одновременные обращения могут быть учтены частично.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionInterner[capacity=" + entries.length + ", hits=" + hits.sum() + ", misses=" + misses.sum()
+               + ", evictions=" + evictions.sum() + ']';
+    }
+
+    /**
+     * Ищет в кеше или разбирает версию из переданного участка массива байтов.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @Nullable SingleVersion lookup(final @NotNull byte[] bytes, final int offset, final int length) {
+        var hash = length;
+        for (var index = offset; index < offset + length; ++index) {
+            hash = hash * 31 + bytes[index];
+        }
+        final var set = set(hash);
+        for (var way = set; way < set + WAYS; ++way) {
+            final var entry = (Entry) ENTRIES.getAcquire(entries, way);
+            if (entry != null && entry.hash == hash && entry.key.length == length
+                && Arrays.equals(entry.key, 0, length, bytes, offset, offset + length)) {
+                return hit(entry);
+            }
+        }
+        misses.increment();
+        final var version = VersionParser.version(VersionParser.scan(bytes, offset, length));
+        return version == null ? null : insert(set, hash, Arrays.copyOfRange(bytes, offset, offset + length), version);
+    }
+
+    /**
+     * Ищет в кеше или разбирает версию из переданного участка буфера байтов.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение участка.
+     * @param length длина участка.
+     *
+     * @return Каноническую версию или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @Nullable SingleVersion lookup(final @NotNull ByteBuffer buffer, final int offset, final int length) {
+        var hash = length;
+        for (var index = offset; index < offset + length; ++index) {
+            hash = hash * 31 + buffer.get(index);
+        }
+        final var set = set(hash);
+        search:
+        for (var way = set; way < set + WAYS; ++way) {
+            final var entry = (Entry) ENTRIES.getAcquire(entries, way);
+            if (entry != null && entry.hash == hash && entry.key.length == length) {
+                for (var index = 0; index < length; ++index) {
+                    if (entry.key[index] != buffer.get(offset + index)) {
+                        continue search;
+                    }
+                }
+                return hit(entry);
+            }
+        }
+        misses.increment();
+        final var version = VersionParser.version(VersionParser.scan(buffer, offset, length));
+        if (version == null) {
+            return null;
+        }
+        final var key = new byte[length];
+        buffer.get(offset, key);
+        return insert(set, hash, key, version);
+    }
+
+    /**
+     * Ищет в кеше или разбирает версию из переданной последовательности символов.
+     *
+     * @param sequence последовательность символов.
+     *
+     * @return Каноническую версию или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @Nullable SingleVersion lookup(final @NotNull CharSequence sequence) {
+        final var length = sequence.length();
+        var hash = length;
+        for (var index = 0; index < length; ++index) {
+            hash = hash * 31 + sequence.charAt(index);
+        }
+        final var set = set(hash);
+        search:
+        for (var way = set; way < set + WAYS; ++way) {
+            final var entry = (Entry) ENTRIES.getAcquire(entries, way);
+            if (entry != null && entry.hash == hash && entry.key.length == length) {
+                for (var index = 0; index < length; ++index) {
+                    if (entry.key[index] != sequence.charAt(index)) {
+                        continue search;
+                    }
+                }
+                return hit(entry);
+            }
+        }
+        misses.increment();
+        final var version = VersionParser.version(VersionParser.scan(sequence, 0, length));
+        if (version == null) {
+            return null;
+        }
+        // Версия состоит только из цифр и точки, поэтому символы совпадают с байтами ASCII.
+        final var key = new byte[length];
+        for (var index = 0; index < length; ++index) {
+            key[index] = (byte) sequence.charAt(index);
+        }
+        return insert(set, hash, key, version);
+    }
+
+    /**
+     * Возвращает номер первой записи набора, соответствующего переданному хешу.
+     *
+     * @param hash хеш строки.
+     *
+     * @return Номер записи.
+     *
+     * @since 1.0.0-RC2
+     */
+    private int set(final int hash) {
+        return (VersionCache.mix(hash) & mask) * WAYS;
+    }
+
+    /**
+     * Отмечает переданную запись и возвращает её версию.
+     *
+     * @param entry запись.
+     *
+     * @return Каноническую версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @NotNull SingleVersion hit(final @NotNull Entry entry) {
+        // Отметка не записывается повторно, чтобы не делать строку кеша процессора общей для записи.
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.version;
+    }
+
+    /**
+     * Добавляет запись в набор, начинающийся с переданного номера, вытесняя запись по алгоритму «часы», если набор
+     * заполнен. Если равная запись уже добавлена другим потоком, то возвращается её версия.
+     *
+     * @param set номер первой записи набора.
+     * @param hash хеш строки.
+     * @param key байты строки.
+     * @param version разобранная версия.
+     *
+     * @return Каноническую версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private synchronized @NotNull SingleVersion insert(final int set, final int hash, final @NotNull byte[] key,
+                                                       final @NotNull SingleVersion version) {
+        var free = -1;
+        for (var way = set; way < set + WAYS; ++way) {
+            final var entry = entries[way];
+            if (entry == null) {
+                free = free < 0 ? way : free;
+            } else if (entry.hash == hash && Arrays.equals(entry.key, key)) {
+                return entry.version;
+            }
+        }
+        if (free < 0) {
+            final var index = set / WAYS;
+            var hand = hands[index];
+            while (true) {
+                final var entry = entries[set + hand];
+                if (!entry.referenced) {
+                    break;
+                }
+                entry.referenced = false;
+                hand = (byte) (hand + 1 & WAYS - 1);
+            }
+            free = set + hand;
+            hands[index] = (byte) (hand + 1 & WAYS - 1);
+            evictions.increment();
+        }
+        ENTRIES.setRelease(entries, free, new Entry(hash, key, version));
+        return version;
+    }
+
+    /**
+     * Создаёт и возвращает исключение о том, что данные не являются версией, если переданная версия отсутствует.
+     *
+     * @param version версия или {@code null}.
+     *
+     * @return Переданную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull SingleVersion require(final @Nullable SingleVersion version)
+            throws VersionFormatException {
+        if (version == null) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return version;
+    }
+
+    /**
+     * Неизменяемая запись кеша, кроме отметки алгоритма «часы».
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Entry {
+
+        private final int hash;
+
+        private final byte[] key;
+
+        private final SingleVersion version;
+
+        /**
+         * Отметка недавнего попадания. Гонки при её изменении допустимы: они лишь немного искажают выбор вытесняемой
+         * записи.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean referenced;
+
+        private Entry(final int hash, final @NotNull byte[] key, final @NotNull SingleVersion version) {
+            this.hash = hash;
+            this.key = key;
+            this.version = version;
+        }
+
+    }
+
+}
@@ -0,0 +1,623 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Изменяемое отображение версий на значения с открытой адресацией по
+ * {@linkplain Version#pack(int, int) упакованным версиям}.
+ * <p>
+ * Ключи хранятся в массиве типа {@code long[]} без объектов версий и распределяются по ячейкам хорошо перемешанным
+ * хеш-кодом с линейным пробированием. Версии сравниваются так же, как и
+ * {@linkplain DoubleVersion#same(SingleVersion) версии двойного формата}, поэтому версии {@code 1} и {@code 1.0}
+ * являются одним ключом. Поиск по {@linkplain #get(int, int) номерам версии} не требует создания версии.
+ * <p>
+ * Поиск {@linkplain #floor(long) ближайших версий} выполняется по {@linkplain #keySet() отсортированному множеству
+ * ключей}, которое строится заново за время {@code O(n log n)} при первом обращении после добавления или удаления
+ * версии, поэтому он рассчитан на отображения, которые читаются чаще, чем изменяются. Замена значения существующей
+ * версии множество не перестраивает.
+ * <p>
+ * Отображение не является потокобезопасным. Значения не могут быть {@code null}.
+ *
+ * @param <V> тип значений.
+ *
+ * @see VersionSet
+ * @since 1.0.0-RC2
+ */
+public final class VersionMap<V> {
+
+    /**
+     * Ключ пустой ячейки.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final long EMPTY = -1L;
+
+    /**
+     * Наименьшая вместимость таблицы.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int MINIMUM_CAPACITY = 8;
+
+    /**
+     * Упакованные версии или {@link #EMPTY}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private long[] keys;
+
+    /**
+     * Значения, соответствующие ключам.
+     *
+     * @since 1.0.0-RC2
+     */
+    private Object[] values;
+
+    /**
+     * Количество ключей.
+     *
+     * @since 1.0.0-RC2
+     */
+    private int size;
+
+    /**
+     * Отсортированное множество ключей или {@code null}, если отображение изменилось после его построения.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @Nullable VersionSet sorted;
+
+    /**
+     * Создаёт пустое отображение.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionMap() {
+        this(0);
+    }
+
+    /**
+     * Создаёт пустое отображение, вмещающее переданное количество версий без перестроения таблицы.
+     *
+     * @param expectedSize ожидаемое количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionMap(final @Range(from = 0, to = 1 << 29) int expectedSize) {
+        if (expectedSize < 0 || expectedSize > 1 << 29) {
+            throw new IllegalArgumentException("The passed expected size is out of range");
+        }
+        final var capacity = Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Возвращает количество версий.
+     *
+     * @return Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает истинное значение, если отображение пусто, в противном случае — ложное значение.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает значение, соответствующее переданной упакованной версии, или {@code null}, если его нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(int, int)
+     * @see #get(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final long version) {
+        final var index = find(version);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Возвращает значение, соответствующее версии с переданными номерами, или {@code null}, если его нет.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public @Nullable V get(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                           final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return get(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает значение, соответствующее переданной версии, или {@code null}, если его нет.
+     *
+     * @param version версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable V get(final @NotNull SingleVersion version) throws NullException {
+        return get(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает истинное значение, если отображение содержит переданную упакованную версию, в противном случае —
+     * ложное значение.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #containsKey(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public boolean containsKey(final long version) {
+        return find(version) >= 0;
+    }
+
+    /**
+     * Возвращает истинное значение, если отображение содержит версию с переданными номерами, в противном случае —
+     * ложное значение.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #containsKey(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public boolean containsKey(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                               final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return containsKey(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает истинное значение, если отображение содержит переданную версию, в противном случае — ложное
+     * значение.
+     *
+     * @param version версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #containsKey(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean containsKey(final @NotNull SingleVersion version) throws NullException {
+        return containsKey(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Связывает переданное значение с переданной упакованной версией и возвращает прежнее значение или {@code null},
+     * если его не было.
+     *
+     * @param version упакованная версия.
+     * @param value значение.
+     *
+     * @return Прежнее значение или {@code null}.
+     *
+     * @see #put(SingleVersion, Object)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, !null -> _; _, _ -> fail")
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(final @Range(from = 0, to = Long.MAX_VALUE) long version, final @NotNull V value)
+            throws NullException {
+        if (version < 0) {
+            throw new IllegalArgumentException("The passed packed version cannot be negative");
+        }
+        Validator.notNull(value, "The passed value");
+        final var mask = keys.length - 1;
+        var index = VersionCache.mix(version) & mask;
+        for (; keys[index] != EMPTY; index = index + 1 & mask) {
+            if (keys[index] == version) {
+                final var previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+        keys[index] = version;
+        values[index] = value;
+        sorted = null;
+        if (++size << 1 > keys.length) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Связывает переданное значение с версией с переданными номерами и возвращает прежнее значение или {@code null},
+     * если его не было.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     * @param value значение.
+     *
+     * @return Прежнее значение или {@code null}.
+     *
+     * @see #put(long, Object)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _, !null -> _; _, _, _ -> fail")
+    public @Nullable V put(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                           final @Range(from = 0, to = Integer.MAX_VALUE) int minor, final @NotNull V value)
+            throws NullException {
+        return put(Version.pack(major, minor), value);
+    }
+
+    /**
+     * Связывает переданное значение с переданной версией и возвращает прежнее значение или {@code null}, если его не
+     * было.
+     *
+     * @param version версия.
+     * @param value значение.
+     *
+     * @return Прежнее значение или {@code null}.
+     *
+     * @see #put(long, Object)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public @Nullable V put(final @NotNull SingleVersion version, final @NotNull V value) throws NullException {
+        return put(Validator.notNull(version, "The passed version").pack(), value);
+    }
+
+    /**
+     * Удаляет переданную упакованную версию и возвращает связанное с ней значение или {@code null}, если его не было.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Удалённое значение или {@code null}.
+     *
+     * @see #remove(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(final long version) {
+        var index = find(version);
+        if (index < 0) {
+            return null;
+        }
+        final var removed = (V) values[index];
+        final var mask = keys.length - 1;
+        for (var next = index + 1 & mask; keys[next] != EMPTY; next = next + 1 & mask) {
+            final var home = VersionCache.mix(keys[next]) & mask;
+            if ((next - home & mask) >= (next - index & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+        keys[index] = EMPTY;
+        values[index] = null;
+        sorted = null;
+        --size;
+        return removed;
+    }
+
+    /**
+     * Удаляет версию с переданными номерами и возвращает связанное с ней значение или {@code null}, если его не было.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Удалённое значение или {@code null}.
+     *
+     * @see #remove(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public @Nullable V remove(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                              final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return remove(Version.pack(major, minor));
+    }
+
+    /**
+     * Удаляет переданную версию и возвращает связанное с ней значение или {@code null}, если его не было.
+     *
+     * @param version версия.
+     *
+     * @return Удалённое значение или {@code null}.
+     *
+     * @see #remove(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable V remove(final @NotNull SingleVersion version) throws NullException {
+        return remove(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Удаляет все версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        sorted = null;
+        size = 0;
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию отображения, не превышающую переданную, или {@link VersionSet#NONE},
+     * если такой версии нет.
+     * <p>
+     * Первое обращение после добавления или удаления версии перестраивает {@linkplain #keySet() множество ключей} за
+     * время {@code O(n log n)}, последующие выполняются двоичным поиском за время {@code O(log n)}.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @see #floor(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public long floorKey(final long version) {
+        return keySet().floor(version);
+    }
+
+    /**
+     * Возвращает наименьшую упакованную версию отображения, не меньшую переданной, или {@link VersionSet#NONE}, если
+     * такой версии нет.
+     * <p>
+     * Первое обращение после добавления или удаления версии перестраивает {@linkplain #keySet() множество ключей} за
+     * время {@code O(n log n)}, последующие выполняются двоичным поиском за время {@code O(log n)}.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @see #ceiling(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public long ceilingKey(final long version) {
+        return keySet().ceiling(version);
+    }
+
+    /**
+     * Возвращает значение, соответствующее наибольшей версии, не превышающей переданную упакованную версию, или
+     * {@code null}, если такой версии нет.
+     * <p>
+     * Стоимость поиска совпадает со стоимостью {@link #floorKey(long)}.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #floorKey(long)
+     * @see #floor(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public @Nullable V floor(final long version) {
+        final var key = floorKey(version);
+        return key == VersionSet.NONE ? null : get(key);
+    }
+
+    /**
+     * Возвращает значение, соответствующее наибольшей версии, не превышающей версию с переданными номерами, или
+     * {@code null}, если такой версии нет.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #floor(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public @Nullable V floor(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                             final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return floor(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает значение, соответствующее наибольшей версии, не превышающей переданную, или {@code null}, если такой
+     * версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #floor(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable V floor(final @NotNull SingleVersion version) throws NullException {
+        return floor(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает значение, соответствующее наименьшей версии, не меньшей переданной упакованной версии, или
+     * {@code null}, если такой версии нет.
+     * <p>
+     * Стоимость поиска совпадает со стоимостью {@link #ceilingKey(long)}.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #ceilingKey(long)
+     * @see #ceiling(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public @Nullable V ceiling(final long version) {
+        final var key = ceilingKey(version);
+        return key == VersionSet.NONE ? null : get(key);
+    }
+
+    /**
+     * Возвращает значение, соответствующее наименьшей версии, не меньшей версии с переданными номерами, или
+     * {@code null}, если такой версии нет.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #ceiling(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public @Nullable V ceiling(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                               final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return ceiling(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает значение, соответствующее наименьшей версии, не меньшей переданной, или {@code null}, если такой
+     * версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #ceiling(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable V ceiling(final @NotNull SingleVersion version) throws NullException {
+        return ceiling(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает неизменяемое отсортированное множество версий отображения. Множество строится за время
+     * {@code O(n log n)} при первом обращении после добавления или удаления версии и не отражает последующих изменений.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @NotNull VersionSet keySet() {
+        var set = sorted;
+        if (set == null) {
+            final var packed = new long[size];
+            var count = 0;
+            for (final var key : keys) {
+                if (key != EMPTY) {
+                    packed[count++] = key;
+                }
+            }
+            Arrays.sort(packed);
+            sorted = set = VersionSet.ofSorted(packed);
+        }
+        return set;
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        final var joiner = new StringJoiner(", ", "{", "}");
+        for (final var version : keySet()) {
+            joiner.add(version + "=" + get(version.pack()));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Возвращает индекс ячейки с переданной упакованной версией или {@code -1}, если её нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Индекс ячейки или {@code -1}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private int find(final long version) {
+        if (version < 0) {
+            return -1;
+        }
+        final var mask = keys.length - 1;
+        for (var index = VersionCache.mix(version) & mask; ; index = index + 1 & mask) {
+            final var key = keys[index];
+            if (key == version) {
+                return index;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Перестраивает таблицу с переданной вместимостью.
+     *
+     * @param capacity новая вместимость, являющаяся степенью двойки.
+     *
+     * @since 1.0.0-RC2
+     */
+    private void resize(final int capacity) {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+        final var mask = capacity - 1;
+        for (var slot = 0; slot < oldKeys.length; ++slot) {
+            final var key = oldKeys[slot];
+            if (key != EMPTY) {
+                var index = VersionCache.mix(key) & mask;
+                while (keys[index] != EMPTY) {
+                    index = index + 1 & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[slot];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Этот интерфейс описывает приёмник метрик библиотеки: вызовов фабричных методов, обращений к
+ * {@linkplain SingleVersion#of(int) кешу канонических экземпляров}, разборов и путей сравнения версий.
+ * <p>
+ * Приёмник выбирается один раз при загрузке библиотеки и затем не изменяется. Если системное свойство
+ * {@value #PROPERTY} равно {@code counters} или {@code jfr}, то используется соответственно {@linkplain Counters
+ * счётчик} или {@linkplain Jfr приёмник, записывающий события JFR}. В противном случае используется первая реализация,
+ * найденная {@linkplain java.util.ServiceLoader загрузчиком служб}, а если её нет — приёмник, ничего не делающий.
+ * Выбранный приёмник хранится в неизменяемом статическом поле, поэтому вызовы пустых методов приёмника по умолчанию
+ * встраиваются и удаляются оптимизирующим компилятором.
+ * <p>
+ * Методы приёмника вызываются на горячих путях из любых потоков, поэтому реализации должны быть потокобезопасными,
+ * быстрыми и не должны создавать версии, в том числе в конструкторе.
+ *
+ * @see #current()
+ * @since 1.0.0-RC2
+ */
+public interface VersionMetrics {
+
+    /**
+     * Название системного свойства, выбирающего встроенный приёмник.
+     *
+     * @since 1.0.0-RC2
+     */
+    String PROPERTY = "com.bloogefest.version.metrics";
+
+    /**
+     * Возвращает используемый приёмник метрик.
+     *
+     * @return Приёмник метрик.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    static @NotNull VersionMetrics current() {
+        return VersionTelemetry.METRICS;
+    }
+
+    /**
+     * Вызывается при каждом вызове фабричного метода версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    default void created() {
+    }
+
+    /**
+     * Вызывается при каждом обращении к кешу канонических экземпляров.
+     *
+     * @param hit истинное значение, если канонический экземпляр найден, ложное — если создан.
+     *
+     * @since 1.0.0-RC2
+     */
+    default void interned(final boolean hit) {
+    }
+
+    /**
+     * Вызывается при каждом разборе одной версии.
+     *
+     * @param success истинное значение, если разбор успешен, в противном случае — ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    default void parsed(final boolean success) {
+    }
+
+    /**
+     * Вызывается при каждом сравнении версий ровно один раз с путём {@link Dispatch#BUILT_IN} или
+     * {@link Dispatch#FOREIGN} и дополнительно с путями {@link Dispatch#EXTENDED} и {@link Dispatch#CROSS_TYPE}, если
+     * они применимы к сравнению.
+     *
+     * @param dispatch путь сравнения.
+     *
+     * @since 1.0.0-RC2
+     */
+    default void compared(final @NotNull Dispatch dispatch) {
+    }
+
+    /**
+     * Путь сравнения версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    enum Dispatch {
+
+        /**
+         * Сравнение встроенных реализаций по полям без виртуальных вызовов.
+         *
+         * @since 1.0.0-RC2
+         */
+        BUILT_IN,
+
+        /**
+         * Сравнение с участием сторонней реализации через виртуальный вызов {@link SingleVersion#pack()}.
+         *
+         * @since 1.0.0-RC2
+         */
+        FOREIGN,
+
+        /**
+         * Сравнение дополнительных номеров и предварительных меток {@linkplain MultiVersion многокомпонентных
+         * версий} при равенстве упакованных версий.
+         *
+         * @since 1.0.0-RC2
+         */
+        EXTENDED,
+
+        /**
+         * Сравнение версий разных форматов, например версии одиночного формата с версией двойного формата. Версии
+         * одного формата в разных реализациях к этому пути не относятся.
+         *
+         * @since 1.0.0-RC2
+         */
+        CROSS_TYPE
+
+    }
+
+    /**
+     * Встроенный приёмник, подсчитывающий события в {@linkplain LongAdder распределённых счётчиках}.
+     *
+     * @see VersionMetrics
+     * @since 1.0.0-RC2
+     */
+    final class Counters implements VersionMetrics {
+
+        private final LongAdder created = new LongAdder();
+
+        private final LongAdder internHits = new LongAdder();
+
+        private final LongAdder internMisses = new LongAdder();
+
+        private final LongAdder parseSuccesses = new LongAdder();
+
+        private final LongAdder parseFailures = new LongAdder();
+
+        private final LongAdder[] comparisons = new LongAdder[Dispatch.values().length];
+
+        /**
+         * Создаёт счётчик с нулевыми значениями.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Counters() {
+            for (var index = 0; index < comparisons.length; ++index) {
+                comparisons[index] = new LongAdder();
+            }
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void created() {
+            created.increment();
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void interned(final boolean hit) {
+            (hit ? internHits : internMisses).increment();
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void parsed(final boolean success) {
+            (success ? parseSuccesses : parseFailures).increment();
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void compared(final @NotNull Dispatch dispatch) {
+            comparisons[dispatch.ordinal()].increment();
+        }
+
+        /**
+         * Возвращает количество вызовов фабричных методов.
+         *
+         * @return Количество вызовов.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public long createdCount() {
+            return created.sum();
+        }
+
+        /**
+         * Возвращает количество найденных канонических экземпляров.
+         *
+         * @return Количество обращений.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public long internHits() {
+            return internHits.sum();
+        }
+
+        /**
+         * Возвращает количество созданных канонических экземпляров.
+         *
+         * @return Количество обращений.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public long internMisses() {
+            return internMisses.sum();
+        }
+
+        /**
+         * Возвращает количество успешных разборов.
+         *
+         * @return Количество разборов.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public long parseSuccesses() {
+            return parseSuccesses.sum();
+        }
+
+        /**
+         * Возвращает количество неудачных разборов.
+         *
+         * @return Количество разборов.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> _")
+        public long parseFailures() {
+            return parseFailures.sum();
+        }
+
+        /**
+         * Возвращает количество сравнений по переданному пути.
+         *
+         * @param dispatch путь сравнения.
+         *
+         * @return Количество сравнений.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null -> _; _ -> fail")
+        public long comparisons(final @NotNull Dispatch dispatch) {
+            return comparisons[dispatch.ordinal()].sum();
+        }
+
+        /**
+         * Обнуляет все счётчики. Одновременные события могут быть учтены частично.
+         *
+         * @since 1.0.0-RC2
+         */
+        public void reset() {
+            created.reset();
+            internHits.reset();
+            internMisses.reset();
+            parseSuccesses.reset();
+            parseFailures.reset();
+            for (final var comparison : comparisons) {
+                comparison.reset();
+            }
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> new")
+        public @NotNull String toString() {
+            final var builder = new StringBuilder("Counters[created=").append(created.sum())
+                                                                      .append(", internHits=")
+                                                                      .append(internHits.sum())
+                                                                      .append(", internMisses=")
+                                                                      .append(internMisses.sum())
+                                                                      .append(", parseSuccesses=")
+                                                                      .append(parseSuccesses.sum())
+                                                                      .append(", parseFailures=")
+                                                                      .append(parseFailures.sum());
+            for (final var dispatch : Dispatch.values()) {
+                builder.append(", ").append(dispatch).append('=').append(comparisons[dispatch.ordinal()].sum());
+            }
+            return builder.append(']').toString();
+        }
+
+    }
+
+    /**
+     * Встроенный приёмник, записывающий каждое событие как {@linkplain VersionEvent событие JFR} со стеком вызовов,
+     * чтобы находить места, часто создающие, разбирающие или медленно сравнивающие версии. События записываются,
+     * только если они включены в настройках записи JFR.
+     *
+     * @see VersionEvent
+     * @since 1.0.0-RC2
+     */
+    final class Jfr implements VersionMetrics {
+
+        /**
+         * Создаёт приёмник.
+         *
+         * @since 1.0.0-RC2
+         */
+        public Jfr() {
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void created() {
+            VersionEvent.emit("created", "factory");
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void interned(final boolean hit) {
+            VersionEvent.emit("interned", hit ? "hit" : "miss");
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void parsed(final boolean success) {
+            VersionEvent.emit("parsed", success ? "success" : "failure");
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        public void compared(final @NotNull Dispatch dispatch) {
+            VersionEvent.emit("compared", dispatch.name());
+        }
+
+    }
+
+}
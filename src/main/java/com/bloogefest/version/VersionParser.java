@@ -0,0 +1,343 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Однопроходный разборщик версий формата {@code major[.minor]}.
+ * <p>
+ * Результат разбора представляется значением типа {@code long}: главный номер версии хранится в старших 32 битах,
+ * второстепенный — в младших 31 бите, а бит {@link #DOUBLE} указывает на двойной формат. Отрицательное значение
+ * ({@link #INVALID}) означает ошибку разбора. Разбор не создаёт промежуточных объектов.
+ *
+ * @see Version#parse(CharSequence)
+ * @see Version#tryParse(CharSequence)
+ * @since 1.0.0-RC2
+ */
+final class VersionParser {
+
+    /**
+     * Результат неудачного разбора.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final long INVALID = -1L;
+
+    /**
+     * Бит, указывающий на двойной формат разобранной версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final long DOUBLE = 1L << 31;
+
+    private VersionParser() {
+    }
+
+    /**
+     * Разбирает версию из переданной последовательности символов.
+     *
+     * @param sequence последовательность символов.
+     * @param offset смещение.
+     * @param length длина.
+     *
+     * @return Результат разбора или {@link #INVALID}.
+     *
+     * @since 1.0.0-RC2
+     */
+    static long scan(final @NotNull CharSequence sequence, final int offset, final int length) {
+        final var end = offset + length;
+        var index = offset;
+        var major = 0;
+        for (; index < end; ++index) {
+            final var digit = sequence.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if ((major = accumulate(major, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        if (index == offset) {
+            return INVALID;
+        }
+        if (index == end) {
+            return (long) major << 32;
+        }
+        if (sequence.charAt(index) != '.') {
+            return INVALID;
+        }
+        final var start = ++index;
+        var minor = 0;
+        for (; index < end; ++index) {
+            final var digit = sequence.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || (minor = accumulate(minor, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        return index == start ? INVALID : (long) major << 32 | DOUBLE | minor;
+    }
+
+    /**
+     * Разбирает версию из переданного массива байтов в кодировке ASCII.
+     *
+     * @param bytes массив байтов.
+     * @param offset смещение.
+     * @param length длина.
+     *
+     * @return Результат разбора или {@link #INVALID}.
+     *
+     * @since 1.0.0-RC2
+     */
+    static long scan(final @NotNull byte[] bytes, final int offset, final int length) {
+        final var end = offset + length;
+        var index = offset;
+        var major = 0;
+        for (; index < end; ++index) {
+            final var digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if ((major = accumulate(major, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        if (index == offset) {
+            return INVALID;
+        }
+        if (index == end) {
+            return (long) major << 32;
+        }
+        if (bytes[index] != '.') {
+            return INVALID;
+        }
+        final var start = ++index;
+        var minor = 0;
+        for (; index < end; ++index) {
+            final var digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9 || (minor = accumulate(minor, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        return index == start ? INVALID : (long) major << 32 | DOUBLE | minor;
+    }
+
+    /**
+     * Разбирает версию из переданного буфера байтов в кодировке ASCII, не изменяя его позицию.
+     *
+     * @param buffer буфер байтов.
+     * @param offset абсолютное смещение.
+     * @param length длина.
+     *
+     * @return Результат разбора или {@link #INVALID}.
+     *
+     * @since 1.0.0-RC2
+     */
+    static long scan(final @NotNull ByteBuffer buffer, final int offset, final int length) {
+        final var end = offset + length;
+        var index = offset;
+        var major = 0;
+        for (; index < end; ++index) {
+            final var digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if ((major = accumulate(major, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        if (index == offset) {
+            return INVALID;
+        }
+        if (index == end) {
+            return (long) major << 32;
+        }
+        if (buffer.get(index) != '.') {
+            return INVALID;
+        }
+        final var start = ++index;
+        var minor = 0;
+        for (; index < end; ++index) {
+            final var digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9 || (minor = accumulate(minor, digit)) < 0) {
+                return INVALID;
+            }
+        }
+        return index == start ? INVALID : (long) major << 32 | DOUBLE | minor;
+    }
+
+    /**
+     * Создаёт и возвращает версию на основе переданного результата разбора или {@code null}, если разбор был
+     * неудачным.
+     *
+     * @param result результат разбора.
+     *
+     * @return Версию или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @Nullable SingleVersion version(final long result) {
+        VersionTelemetry.METRICS.parsed(result >= 0);
+        if (result < 0) {
+            return null;
+        }
+        final var major = (int) (result >>> 32);
+        return (result & DOUBLE) == 0
+               ? SingleVersion.of(major)
+               : DoubleVersion.of(major, (int) result & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Разбирает многокомпонентную версию из переданной последовательности символов.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor][.…][-pre][+build]}.
+     *
+     * @return Многокомпонентную версию или {@code null}, если последовательность не является версией.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @Nullable MultiVersion multi(final @NotNull CharSequence sequence) {
+        final var version = scanMulti(sequence);
+        VersionTelemetry.METRICS.parsed(version != null);
+        return version;
+    }
+
+    /**
+     * Разбирает многокомпонентную версию из переданной последовательности символов без учёта в
+     * {@linkplain VersionMetrics метриках}.
+     *
+     * @param sequence последовательность символов формата {@code major[.minor][.…][-pre][+build]}.
+     *
+     * @return Многокомпонентную версию или {@code null}, если последовательность не является версией.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @Nullable MultiVersion scanMulti(final @NotNull CharSequence sequence) {
+        final var length = sequence.length();
+        var end = 0;
+        var count = 1;
+        for (char character; end < length && (character = sequence.charAt(end)) != '-' && character != '+'; ++end) {
+            if (character == '.') {
+                ++count;
+            }
+        }
+        final var components = new int[count];
+        var index = 0;
+        for (var component = 0; component < count; ++component) {
+            final var start = index;
+            var value = 0;
+            for (int digit; index < end && (digit = sequence.charAt(index) - '0') >= 0 && digit <= 9; ++index) {
+                if ((value = accumulate(value, digit)) < 0) {
+                    return null;
+                }
+            }
+            if (index == start || index < end && sequence.charAt(index++) != '.') {
+                return null;
+            }
+            components[component] = value;
+        }
+        String preRelease = null;
+        if (end < length && sequence.charAt(end) == '-') {
+            var plus = end + 1;
+            while (plus < length && sequence.charAt(plus) != '+') {
+                ++plus;
+            }
+            preRelease = sequence.subSequence(end + 1, plus).toString();
+            end = plus;
+        }
+        final var build = end < length ? sequence.subSequence(end + 1, length).toString() : null;
+        if (!label(preRelease) || !label(build)) {
+            return null;
+        }
+        return count == 3
+               ? new TripleVersion.Impl(components[0], components[1], components[2], preRelease, build)
+               : new MultiVersion.Impl(components, preRelease, build);
+    }
+
+    /**
+     * Возвращает истинное значение, если переданная метка отсутствует или состоит из непустых идентификаторов,
+     * разделённых точками и содержащих только латинские буквы, цифры и дефисы, в противном случае — ложное значение.
+     *
+     * @param label метка или {@code null}.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    static boolean label(final @Nullable String label) {
+        if (label == null) {
+            return true;
+        }
+        var empty = true;
+        for (var index = 0; index < label.length(); ++index) {
+            final var character = label.charAt(index);
+            if (character == '.') {
+                if (empty) {
+                    return false;
+                }
+                empty = true;
+            } else if (character >= '0' && character <= '9' || character >= 'a' && character <= 'z' ||
+                       character >= 'A' && character <= 'Z' || character == '-') {
+                empty = false;
+            } else {
+                return false;
+            }
+        }
+        return !empty;
+    }
+
+    /**
+     * Создаёт и возвращает версию на основе переданного результата разбора.
+     *
+     * @param result результат разбора.
+     *
+     * @return Версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull SingleVersion require(final long result) throws VersionFormatException {
+        final var version = version(result);
+        if (version == null) {
+            throw new VersionFormatException("The passed data is not a version");
+        }
+        return version;
+    }
+
+    /**
+     * Возвращает истинное значение, если переданный участок выходит за границы данных переданного размера, в противном
+     * случае — ложное значение.
+     *
+     * @param offset смещение участка.
+     * @param length длина участка.
+     * @param size размер данных.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    static boolean outside(final int offset, final int length, final int size) {
+        return (offset | length) < 0 || length > size - offset;
+    }
+
+    /**
+     * Добавляет переданную цифру к переданному числу.
+     *
+     * @param value число.
+     * @param digit цифра.
+     *
+     * @return Новое число или {@code -1} при переполнении.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int accumulate(final int value, final int digit) {
+        return value > (Integer.MAX_VALUE - digit) / 10 ? -1 : value * 10 + digit;
+    }
+
+}
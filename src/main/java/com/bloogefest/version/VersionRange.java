@@ -0,0 +1,681 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Неизменяемый диапазон версий, скомпилированный в плоский массив непересекающихся полуинтервалов над
+ * {@linkplain Version#pack(int, int) упакованными версиями}.
+ * <p>
+ * Массив границ имеет вид {@code [начало₀, конец₀, начало₁, конец₁, …]}, где начало входит в полуинтервал, а конец —
+ * нет. Полуинтервалы отсортированы и не соприкасаются, поэтому {@linkplain #matches(long) проверка версии} сводится к
+ * нескольким сравнениям примитивов (или к двоичному поиску для больших диапазонов) и не создаёт объектов.
+ * <p>
+ * Диапазоны можно {@linkplain #parse(CharSequence) разобрать из выражения}, построить фабричными методами, а также
+ * {@linkplain #union(VersionRange) объединять} и {@linkplain #intersection(VersionRange) пересекать}.
+ *
+ * @see #parse(CharSequence)
+ * @since 1.0.0-RC2
+ */
+public final class VersionRange {
+
+    /**
+     * Граница, превышающая любую упакованную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /**
+     * Количество границ, до которого проверка версии выполняется линейным перебором.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final int LINEAR = 8;
+
+    private static final VersionRange NONE = new VersionRange(new long[0]);
+
+    private static final VersionRange ALL = new VersionRange(new long[]{0, UNBOUNDED});
+
+    /**
+     * Отсортированные границы непересекающихся полуинтервалов.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long[] bounds;
+
+    private VersionRange(final @NotNull long[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Возвращает пустой диапазон.
+     *
+     * @return Пустой диапазон.
+     *
+     * @see #all()
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public static @NotNull VersionRange none() {
+        return NONE;
+    }
+
+    /**
+     * Возвращает диапазон, содержащий все версии.
+     *
+     * @return Диапазон, содержащий все версии.
+     *
+     * @see #none()
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public static @NotNull VersionRange all() {
+        return ALL;
+    }
+
+    /**
+     * Создаёт и возвращает диапазон, содержащий единственную версию, такую же, как и переданная.
+     *
+     * @param version версия.
+     *
+     * @return Диапазон.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionRange exactly(final @NotNull SingleVersion version) throws NullException {
+        final var packed = Validator.notNull(version, "The passed version").pack();
+        return interval(packed, packed + 1);
+    }
+
+    /**
+     * Создаёт и возвращает диапазон версий, не меньших (или строго больших) переданной.
+     *
+     * @param version нижняя граница.
+     * @param inclusive истинное значение, если нижняя граница входит в диапазон.
+     *
+     * @return Диапазон.
+     *
+     * @see #below(SingleVersion, boolean)
+     * @see #between(SingleVersion, boolean, SingleVersion, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public static @NotNull VersionRange above(final @NotNull SingleVersion version, final boolean inclusive)
+            throws NullException {
+        final var packed = Validator.notNull(version, "The passed version").pack();
+        return interval(inclusive ? packed : packed + 1, UNBOUNDED);
+    }
+
+    /**
+     * Создаёт и возвращает диапазон версий, не превышающих (или строго меньших) переданную.
+     *
+     * @param version верхняя граница.
+     * @param inclusive истинное значение, если верхняя граница входит в диапазон.
+     *
+     * @return Диапазон.
+     *
+     * @see #above(SingleVersion, boolean)
+     * @see #between(SingleVersion, boolean, SingleVersion, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public static @NotNull VersionRange below(final @NotNull SingleVersion version, final boolean inclusive)
+            throws NullException {
+        final var packed = Validator.notNull(version, "The passed version").pack();
+        return interval(0, inclusive ? packed + 1 : packed);
+    }
+
+    /**
+     * Создаёт и возвращает диапазон версий, лежащих между переданными.
+     *
+     * @param lower нижняя граница.
+     * @param lowerInclusive истинное значение, если нижняя граница входит в диапазон.
+     * @param upper верхняя граница.
+     * @param upperInclusive истинное значение, если верхняя граница входит в диапазон.
+     *
+     * @return Диапазон.
+     *
+     * @see #above(SingleVersion, boolean)
+     * @see #below(SingleVersion, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, !null, _ -> new; _, _, _, _ -> fail")
+    public static @NotNull VersionRange between(final @NotNull SingleVersion lower, final boolean lowerInclusive,
+                                                final @NotNull SingleVersion upper, final boolean upperInclusive)
+            throws NullException {
+        final var start = Validator.notNull(lower, "The passed lower version").pack();
+        final var end = Validator.notNull(upper, "The passed upper version").pack();
+        return interval(lowerInclusive ? start : start + 1, upperInclusive ? end + 1 : end);
+    }
+
+    /**
+     * Создаёт и возвращает диапазон, состоящий из одного полуинтервала упакованных версий.
+     *
+     * @param start упакованная версия, входящая в диапазон.
+     * @param end упакованная версия, не входящая в диапазон.
+     *
+     * @return Диапазон.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull VersionRange interval(final @Range(from = 0, to = Long.MAX_VALUE) long start,
+                                                 final @Range(from = 0, to = Long.MAX_VALUE) long end) {
+        return start < end ? new VersionRange(new long[]{Math.max(start, 0), end}) : NONE;
+    }
+
+    /**
+     * Разбирает и компилирует переданное выражение диапазона.
+     * <p>
+     * Выражение состоит из альтернатив, разделённых {@code ||}. Альтернатива состоит из условий, разделённых пробелами
+     * или запятыми, и содержит версии, удовлетворяющие всем условиям. Поддерживаются условия:
+     * <ul>
+     *     <li>{@code *} или {@code x} — любая версия;</li>
+     *     <li>{@code 1.2} или {@code =1.2} — версия, такая же, как и {@code 1.2};</li>
+     *     <li>{@code >1.2}, {@code >=1.2}, {@code <1.2}, {@code <=1.2} — сравнение с версией;</li>
+     *     <li>{@code 1.x} или {@code 1.*} — любая версия с главным номером {@code 1};</li>
+     *     <li>{@code ~1.4} — версии не старее {@code 1.4} с теми же главным и второстепенным номерами, а {@code ~1} —
+     *     с тем же главным номером;</li>
+     *     <li>{@code ^1.4} — версии не старее {@code 1.4} с тем же первым ненулевым номером: {@code ^1.4} — до
+     *     {@code 2.0}, {@code ^0.3} — до {@code 0.4}, а {@code ^0} — до {@code 1.0}.</li>
+     * </ul>
+     *
+     * @param expression выражение диапазона.
+     *
+     * @return Скомпилированный диапазон.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionRange parse(final @NotNull CharSequence expression)
+            throws NullException, VersionFormatException {
+        final var length = Validator.notNull(expression, "The passed expression").length();
+        var result = NONE;
+        var alternative = ALL;
+        var empty = true;
+        var index = 0;
+        while (true) {
+            while (index < length && separator(expression.charAt(index))) {
+                ++index;
+            }
+            if (index == length || expression.charAt(index) == '|') {
+                if (empty) {
+                    throw new VersionFormatException("The passed expression contains an empty alternative");
+                }
+                result = result.union(alternative);
+                if (index == length) {
+                    return result;
+                }
+                if (++index == length || expression.charAt(index++) != '|') {
+                    throw new VersionFormatException("The passed expression contains a single '|'");
+                }
+                alternative = ALL;
+                empty = true;
+                continue;
+            }
+            var end = index;
+            while (end < length && !separator(expression.charAt(end)) && expression.charAt(end) != '|') {
+                ++end;
+            }
+            alternative = alternative.intersection(term(expression, index, end));
+            empty = false;
+            index = end;
+        }
+    }
+
+    /**
+     * Возвращает истинное значение, если диапазон содержит переданную
+     * {@linkplain Version#pack(int, int) упакованную версию}, в противном случае — ложное значение.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #matches(int, int)
+     * @see #matches(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public boolean matches(final long version) {
+        final var bounds = this.bounds;
+        if (bounds.length <= LINEAR) {
+            for (var index = 0; index < bounds.length; index += 2) {
+                if (version < bounds[index]) {
+                    return false;
+                }
+                if (version < bounds[index + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        final var index = Arrays.binarySearch(bounds, version);
+        return index >= 0 ? (index & 1) == 0 : (-index - 1 & 1) == 1;
+    }
+
+    /**
+     * Возвращает истинное значение, если диапазон содержит версию с переданными главным и второстепенным номерами, в
+     * противном случае — ложное значение.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #matches(long)
+     * @see #matches(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    public boolean matches(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                           final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return matches(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает истинное значение, если диапазон содержит переданную версию, в противном случае — ложное значение.
+     *
+     * @param version версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #matches(long)
+     * @see #matches(int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean matches(final @NotNull SingleVersion version) throws NullException {
+        return matches(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает истинное значение, если диапазон не содержит версий, в противном случае — ложное значение.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    /**
+     * Возвращает количество полуинтервалов диапазона.
+     *
+     * @return Количество полуинтервалов.
+     *
+     * @see #start(int)
+     * @see #end(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int intervals() {
+        return bounds.length >> 1;
+    }
+
+    /**
+     * Возвращает упакованную версию, с которой начинается полуинтервал по переданному индексу. Эта версия входит в
+     * диапазон.
+     *
+     * @param interval индекс полуинтервала.
+     *
+     * @return Упакованную версию.
+     *
+     * @see #intervals()
+     * @see #end(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public @Range(from = 0, to = Long.MAX_VALUE) long start(final int interval) throws IndexOutOfBoundsException {
+        return bounds[Objects.checkIndex(interval, intervals()) << 1];
+    }
+
+    /**
+     * Возвращает упакованную версию, которой заканчивается полуинтервал по переданному индексу. Эта версия не входит в
+     * диапазон, а значение {@link Long#MAX_VALUE} означает отсутствие верхней границы.
+     *
+     * @param interval индекс полуинтервала.
+     *
+     * @return Упакованную версию.
+     *
+     * @see #intervals()
+     * @see #start(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public @Range(from = 0, to = Long.MAX_VALUE) long end(final int interval) throws IndexOutOfBoundsException {
+        return bounds[(Objects.checkIndex(interval, intervals()) << 1) + 1];
+    }
+
+    /**
+     * Создаёт и возвращает объединение текущего и переданного диапазонов.
+     *
+     * @param range диапазон.
+     *
+     * @return Объединение диапазонов.
+     *
+     * @see #intersection(VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull VersionRange union(final @NotNull VersionRange range) throws NullException {
+        final var other = Validator.notNull(range, "The passed range").bounds;
+        if (other.length == 0 || this == range) {
+            return this;
+        }
+        if (bounds.length == 0) {
+            return range;
+        }
+        final var result = new long[bounds.length + other.length];
+        var size = 0;
+        var left = 0;
+        var right = 0;
+        while (left < bounds.length || right < other.length) {
+            final long start;
+            final long end;
+            if (right == other.length || left < bounds.length && bounds[left] <= other[right]) {
+                start = bounds[left++];
+                end = bounds[left++];
+            } else {
+                start = other[right++];
+                end = other[right++];
+            }
+            if (size > 0 && start <= result[size - 1]) {
+                result[size - 1] = Math.max(result[size - 1], end);
+            } else {
+                result[size++] = start;
+                result[size++] = end;
+            }
+        }
+        return new VersionRange(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    /**
+     * Создаёт и возвращает пересечение текущего и переданного диапазонов.
+     *
+     * @param range диапазон.
+     *
+     * @return Пересечение диапазонов.
+     *
+     * @see #union(VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull VersionRange intersection(final @NotNull VersionRange range) throws NullException {
+        final var other = Validator.notNull(range, "The passed range").bounds;
+        if (this == range || range == ALL) {
+            return this;
+        }
+        if (this == ALL) {
+            return range;
+        }
+        final var result = new long[bounds.length + other.length];
+        var size = 0;
+        var left = 0;
+        var right = 0;
+        while (left < bounds.length && right < other.length) {
+            final var start = Math.max(bounds[left], other[right]);
+            final var end = Math.min(bounds[left + 1], other[right + 1]);
+            if (start < end) {
+                result[size++] = start;
+                result[size++] = end;
+            }
+            if (bounds[left + 1] < other[right + 1]) {
+                left += 2;
+            } else {
+                right += 2;
+            }
+        }
+        return size == 0 ? NONE : new VersionRange(Arrays.copyOf(result, size));
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("!null -> _; _ -> false")
+    public boolean equals(final @Nullable Object object) {
+        return object == this || object instanceof VersionRange range && Arrays.equals(bounds, range.bounds);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> const")
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+
+    /**
+     * Возвращает выражение диапазона, {@linkplain #parse(CharSequence) разбор} которого даёт такой же диапазон.
+     *
+     * @return Выражение диапазона.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        if (bounds.length == 0) {
+            return "<0.0";
+        }
+        final var builder = new StringBuilder();
+        for (var index = 0; index < bounds.length; index += 2) {
+            if (index > 0) {
+                builder.append(" || ");
+            }
+            final var start = bounds[index];
+            final var end = bounds[index + 1];
+            if (end == start + 1 && (int) start != Integer.MAX_VALUE) {
+                append(builder, start);
+                continue;
+            }
+            if (start == 0 && end == UNBOUNDED) {
+                builder.append('*');
+                continue;
+            }
+            if (start > 0) {
+                append(builder.append(">="), start);
+            }
+            if (end != UNBOUNDED) {
+                if (start > 0) {
+                    builder.append(' ');
+                }
+                if ((int) end < 0) {
+                    append(builder.append("<="), end - 1);
+                } else {
+                    append(builder.append('<'), end);
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Разбирает и компилирует условие, расположенное на переданном участке выражения.
+     *
+     * @param expression выражение.
+     * @param start начало участка (включительно).
+     * @param end конец участка (исключительно).
+     *
+     * @return Диапазон, соответствующий условию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionRange term(final @NotNull CharSequence expression, final int start, final int end)
+            throws VersionFormatException {
+        final var first = expression.charAt(start);
+        final var second = start + 1 < end ? expression.charAt(start + 1) : '\0';
+        if (end - start == 1 && wildcard(first)) {
+            return ALL;
+        }
+        switch (first) {
+            case '>':
+                return second == '='
+                       ? interval(version(expression, start + 2, end), UNBOUNDED)
+                       : interval(version(expression, start + 1, end) + 1, UNBOUNDED);
+            case '<':
+                return second == '='
+                       ? interval(0, version(expression, start + 2, end) + 1)
+                       : interval(0, version(expression, start + 1, end));
+            case '=':
+                return point(version(expression, start + 1, end));
+            case '~':
+                return compatible(scan(expression, start + 1, end), false);
+            case '^':
+                return compatible(scan(expression, start + 1, end), true);
+            default:
+                if (end - start > 2 && expression.charAt(end - 2) == '.' && wildcard(expression.charAt(end - 1))) {
+                    final var major = version(expression, start, end - 2);
+                    if (Version.minor(major) != 0) {
+                        throw new VersionFormatException("The passed expression contains an invalid wildcard");
+                    }
+                    return interval(major, next(major));
+                }
+                return point(version(expression, start, end));
+        }
+    }
+
+    /**
+     * Разбирает и возвращает упакованную версию, расположенную на переданном участке выражения.
+     *
+     * @param expression выражение.
+     * @param start начало участка (включительно).
+     * @param end конец участка (исключительно).
+     *
+     * @return Упакованную версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long version(final @NotNull CharSequence expression, final int start, final int end)
+            throws VersionFormatException {
+        return scan(expression, start, end) & ~VersionParser.DOUBLE;
+    }
+
+    /**
+     * Разбирает и возвращает упакованную версию, расположенную на переданном участке выражения, с битом
+     * {@link VersionParser#DOUBLE двойного формата}.
+     *
+     * @param expression выражение.
+     * @param start начало участка (включительно).
+     * @param end конец участка (исключительно).
+     *
+     * @return Упакованную версию с битом формата.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long scan(final @NotNull CharSequence expression, final int start, final int end)
+            throws VersionFormatException {
+        final var result = VersionParser.scan(expression, start, end - start);
+        if (result < 0) {
+            throw new VersionFormatException("The passed expression contains an invalid version");
+        }
+        return result;
+    }
+
+    /**
+     * Создаёт и возвращает диапазон версий, совместимых с переданной версией по условию {@code ~} или {@code ^}.
+     * <p>
+     * Условие {@code ~} фиксирует все указанные номера, кроме единственного главного. Условие {@code ^} фиксирует
+     * первый ненулевой номер, а если указан только нулевой главный номер — его.
+     *
+     * @param scanned упакованная версия с битом формата.
+     * @param caret истинное значение для условия {@code ^}, ложное — для условия {@code ~}.
+     *
+     * @return Диапазон.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionRange compatible(final long scanned, final boolean caret) {
+        final var version = scanned & ~VersionParser.DOUBLE;
+        if ((scanned & VersionParser.DOUBLE) == 0 || caret && Version.major(version) != 0) {
+            return interval(version, next(version));
+        }
+        return point(version);
+    }
+
+    /**
+     * Создаёт и возвращает диапазон, содержащий единственную переданную упакованную версию.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Диапазон.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionRange point(final long version) {
+        return interval(version, version + 1);
+    }
+
+    /**
+     * Возвращает первую упакованную версию со следующим главным номером или {@link #UNBOUNDED}, если главный номер
+     * переданной версии является наибольшим.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link #UNBOUNDED}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static long next(final long version) {
+        final var major = Version.major(version);
+        return major == Integer.MAX_VALUE ? UNBOUNDED : Version.pack(major + 1, 0);
+    }
+
+    /**
+     * Добавляет переданную упакованную версию к переданному построителю строки.
+     *
+     * @param builder построитель строки.
+     * @param version упакованная версия.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void append(final @NotNull StringBuilder builder, final long version) {
+        builder.append(Version.major(version)).append('.').append(Version.minor(version));
+    }
+
+    /**
+     * Возвращает истинное значение, если переданный символ разделяет условия, в противном случае — ложное значение.
+     *
+     * @param character символ.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static boolean separator(final char character) {
+        return character == ' ' || character == ',' || character == '\t';
+    }
+
+    /**
+     * Возвращает истинное значение, если переданный символ обозначает любой номер версии, в противном случае — ложное
+     * значение.
+     *
+     * @param character символ.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static boolean wildcard(final char character) {
+        return character == '*' || character == 'x' || character == 'X';
+    }
+
+}
@@ -0,0 +1,404 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Потокобезопасный реестр последних версий компонентов, например версий схем или протоколов.
+ * <p>
+ * Последняя версия каждого компонента хранится в упакованном виде в одном изменяемом поле. Чтение последней версии не
+ * использует блокировок и завершается за конечное число шагов независимо от других потоков, а
+ * {@linkplain #advanceIfNewer(String, long) продвижение} выполняется атомарным сравнением с обменом и заменяет версию
+ * только более новой, поэтому последняя версия компонента никогда не уменьшается.
+ * <p>
+ * Вместо периодической проверки последней версии можно {@linkplain #awaitAtLeast(String, long) получить обещание},
+ * которое будет выполнено, как только компонент достигнет переданной версии. Обещания выполняются в потоке,
+ * продвинувшем версию, поэтому долгие действия следует выполнять асинхронными стадиями. Обещания, отменённые или
+ * завершённые иначе до достижения версии, сразу удаляются из реестра.
+ *
+ * @see Version#pack(int, int)
+ * @since 1.0.0-RC2
+ */
+public final class VersionRegistry {
+
+    /**
+     * Компоненты.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Создаёт пустой реестр.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionRegistry() {
+    }
+
+    /**
+     * Возвращает последнюю упакованную версию переданного компонента или {@link VersionSet#NONE}, если версия
+     * компонента ещё не опубликована.
+     *
+     * @param component название компонента.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @see #latest(String)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public long latestPacked(final @NotNull String component) throws NullException {
+        final var entry = entries.get(Validator.notNull(component, "The passed component"));
+        return entry == null ? VersionSet.NONE : entry.latest;
+    }
+
+    /**
+     * Возвращает последнюю версию переданного компонента или {@code null}, если версия компонента ещё не
+     * опубликована.
+     *
+     * @param component название компонента.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #latestPacked(String)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion latest(final @NotNull String component) throws NullException {
+        final var packed = latestPacked(component);
+        return packed == VersionSet.NONE ? null : Version.unpack(packed);
+    }
+
+    /**
+     * Заменяет последнюю версию переданного компонента переданной упакованной версией, если она новее, и выполняет
+     * обещания, ожидающие достигнутой версии.
+     *
+     * @param component название компонента.
+     * @param version упакованная версия.
+     *
+     * @return Истинное значение, если последняя версия изменилась, в противном случае — ложное значение.
+     *
+     * @see #advanceIfNewer(String, SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    public boolean advanceIfNewer(final @NotNull String component, final long version) throws NullException {
+        Validator.notNull(component, "The passed component");
+        if (version < 0) {
+            throw new IllegalArgumentException("The passed packed version cannot be negative");
+        }
+        while (true) {
+            final var entry = entry(component);
+            if (entry.latest == VersionSet.NONE) {
+                // Первая публикация согласуется с удалением записи без ожидающих обещаний.
+                synchronized (entry) {
+                    if (entry.retired) {
+                        continue;
+                    }
+                    if (!entry.advance(version)) {
+                        return false;
+                    }
+                }
+            } else if (!entry.advance(version)) {
+                return false;
+            }
+            entry.notifyWaiters();
+            return true;
+        }
+    }
+
+    /**
+     * Заменяет последнюю версию переданного компонента переданной версией, если она новее, и выполняет обещания,
+     * ожидающие достигнутой версии. Дополнительные номера {@linkplain MultiVersion версий множественного формата} не
+     * учитываются.
+     *
+     * @param component название компонента.
+     * @param version версия.
+     *
+     * @return Истинное значение, если последняя версия изменилась, в противном случае — ложное значение.
+     *
+     * @see #advanceIfNewer(String, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public boolean advanceIfNewer(final @NotNull String component, final @NotNull SingleVersion version)
+            throws NullException {
+        return advanceIfNewer(component, Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает обещание, которое будет выполнено последней версией переданного компонента, как только она станет не
+     * старше переданной упакованной версии. Если компонент уже достиг версии, возвращается выполненное обещание.
+     * <p>
+     * Обещание, отменённое или завершённое иначе до достижения версии, сразу удаляется из реестра. Ожидание ещё не
+     * опубликованного компонента создаёт его запись, которая удаляется вместе с последним таким обещанием, поэтому
+     * ожидание компонентов, которые так и не были опубликованы, не накапливает записей.
+     *
+     * @param component название компонента.
+     * @param version упакованная версия.
+     *
+     * @return Обещание версии двойного формата.
+     *
+     * @see #awaitAtLeast(String, SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public @NotNull CompletableFuture<DoubleVersion> awaitAtLeast(final @NotNull String component, final long version)
+            throws NullException {
+        Validator.notNull(component, "The passed component");
+        if (version < 0) {
+            throw new IllegalArgumentException("The passed packed version cannot be negative");
+        }
+        while (true) {
+            final var entry = entry(component);
+            final var current = entry.latest;
+            if (current >= version) {
+                return CompletableFuture.completedFuture(Version.unpack(current));
+            }
+            final var waiter = new Waiter(version, new CompletableFuture<>());
+            if (current == VersionSet.NONE) {
+                synchronized (entry) {
+                    if (entry.retired) {
+                        continue;
+                    }
+                    entry.waiters.add(waiter);
+                }
+            } else {
+                entry.waiters.add(waiter);
+            }
+            // Версия могла быть продвинута до добавления ожидающего, и тогда продвинувший поток его не увидел.
+            final var latest = entry.latest;
+            if (latest >= version && entry.waiters.remove(waiter)) {
+                waiter.future.complete(Version.unpack(latest));
+            }
+            waiter.future.whenComplete((value, throwable) -> discard(component, entry, waiter));
+            return waiter.future;
+        }
+    }
+
+    /**
+     * Возвращает обещание, которое будет выполнено последней версией переданного компонента, как только она станет не
+     * старше переданной версии. Если компонент уже достиг версии, возвращается выполненное обещание.
+     *
+     * @param component название компонента.
+     * @param version версия.
+     *
+     * @return Обещание версии двойного формата.
+     *
+     * @see #awaitAtLeast(String, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public @NotNull CompletableFuture<DoubleVersion> awaitAtLeast(final @NotNull String component,
+                                                                  final @NotNull SingleVersion version)
+            throws NullException {
+        return awaitAtLeast(component, Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает неизменяемое отображение названий компонентов на их последние версии, отсортированное по названиям.
+     * Версии разных компонентов читаются не одновременно.
+     *
+     * @return Отображение названий компонентов на версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull Map<String, DoubleVersion> snapshot() {
+        final var result = new TreeMap<String, DoubleVersion>();
+        for (final var entry : entries.entrySet()) {
+            final var latest = entry.getValue().latest;
+            if (latest != VersionSet.NONE) {
+                result.put(entry.getKey(), Version.unpack(latest));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionRegistry" + snapshot();
+    }
+
+    /**
+     * Возвращает количество ожидающих обещаний переданного компонента или {@code -1}, если у компонента нет записи.
+     *
+     * @param component название компонента.
+     *
+     * @return Количество ожидающих обещаний или {@code -1}.
+     *
+     * @since 1.0.0-RC2
+     */
+    int waiters(final @NotNull String component) {
+        final var entry = entries.get(component);
+        return entry == null ? -1 : entry.waiters.size();
+    }
+
+    /**
+     * Возвращает запись переданного компонента, при необходимости создавая её.
+     *
+     * @param component название компонента.
+     *
+     * @return Запись компонента.
+     *
+     * @since 1.0.0-RC2
+     */
+    private @NotNull Entry entry(final @NotNull String component) {
+        final var entry = entries.get(component);
+        return entry != null ? entry : entries.computeIfAbsent(component, key -> new Entry());
+    }
+
+    /**
+     * Удаляет переданное обещание, завершённое до достижения ожидаемой версии, а также запись компонента, если версия
+     * компонента не опубликована и других ожидающих обещаний нет.
+     *
+     * @param component название компонента.
+     * @param entry запись компонента.
+     * @param waiter завершённое обещание.
+     *
+     * @since 1.0.0-RC2
+     */
+    private void discard(final @NotNull String component, final @NotNull Entry entry, final @NotNull Waiter waiter) {
+        if (entry.latest >= waiter.target) {
+            // Обещание выполнено продвинувшим версию потоком или будет удалено им при обходе.
+            return;
+        }
+        entry.waiters.remove(waiter);
+        if (entry.latest != VersionSet.NONE) {
+            return;
+        }
+        synchronized (entry) {
+            if (!entry.retired && entry.latest == VersionSet.NONE && entry.waiters.isEmpty()) {
+                entry.retired = true;
+                entries.remove(component, entry);
+            }
+        }
+    }
+
+    /**
+     * Обещание, ожидающее упакованной версии.
+     *
+     * @param target ожидаемая упакованная версия.
+     * @param future обещание.
+     *
+     * @since 1.0.0-RC2
+     */
+    private record Waiter(long target, @NotNull CompletableFuture<DoubleVersion> future) {
+
+    }
+
+    /**
+     * Компонент: последняя упакованная версия и ожидающие обещания.
+     * <p>
+     * Пока версия не опубликована, публикация, добавление ожидающих обещаний и удаление записи выполняются под
+     * блокировкой записи; после публикации запись не удаляется, и блокировка не используется.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Entry {
+
+        /**
+         * Дескриптор {@linkplain #latest последней версии}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private static final VarHandle LATEST;
+
+        static {
+            try {
+                LATEST = MethodHandles.lookup().findVarHandle(Entry.class, "latest", long.class);
+            } catch (final ReflectiveOperationException exception) {
+                throw new ExceptionInInitializerError(exception);
+            }
+        }
+
+        /**
+         * Ожидающие обещания.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Последняя упакованная версия или {@link VersionSet#NONE}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private volatile long latest = VersionSet.NONE;
+
+        /**
+         * Удалена ли запись из реестра. Изменяется только под блокировкой записи.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean retired;
+
+        /**
+         * Заменяет последнюю версию переданной, если она новее.
+         *
+         * @param version упакованная версия.
+         *
+         * @return Истинное значение, если последняя версия изменилась, в противном случае — ложное значение.
+         *
+         * @since 1.0.0-RC2
+         */
+        private boolean advance(final long version) {
+            var current = latest;
+            while (version > current) {
+                final var witness = (long) LATEST.compareAndExchange(this, current, version);
+                if (witness == current) {
+                    return true;
+                }
+                current = witness;
+            }
+            return false;
+        }
+
+        /**
+         * За один проход выполняет и удаляет обещания, ожидающие достигнутой версии, а также удаляет завершённые
+         * обещания. Если версию одновременно продвигают несколько потоков, обещание выполняется первым из них.
+         *
+         * @since 1.0.0-RC2
+         */
+        private void notifyWaiters() {
+            if (waiters.isEmpty()) {
+                return;
+            }
+            final var current = latest;
+            for (final var iterator = waiters.iterator(); iterator.hasNext(); ) {
+                final var waiter = iterator.next();
+                if (waiter.future.isDone()) {
+                    iterator.remove();
+                } else if (waiter.target <= current) {
+                    iterator.remove();
+                    waiter.future.complete(Version.unpack(current));
+                }
+            }
+        }
+
+    }
+
+}
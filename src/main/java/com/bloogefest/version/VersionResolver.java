@@ -0,0 +1,280 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Потокобезопасный разрешитель версий, выбирающий версии из каталога доступных версий по
+ * {@linkplain VersionRange ограничениям}.
+ * <p>
+ * Каталог хранится как {@linkplain VersionSet отсортированное множество упакованных версий}. Поиск
+ * {@linkplain #bestMatch(VersionRange) наиболее подходящей версии} выполняется двоичным поиском по каждому
+ * полуинтервалу ограничения, поэтому занимает логарифмическое время от размера каталога.
+ * <p>
+ * Каталог можно изменять во время поиска: каждое изменение атомарно публикует новое неизменяемое множество, а поиск
+ * работает с множеством, полученным одним чтением, и не использует блокировок. Изменение копирует каталог, поэтому
+ * разрешитель рассчитан на каталоги, которые читаются чаще, чем изменяются.
+ *
+ * @see VersionRange
+ * @see VersionSet
+ * @since 1.0.0-RC2
+ */
+public final class VersionResolver {
+
+    /**
+     * Текущий каталог.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final AtomicReference<VersionSet> catalog;
+
+    /**
+     * Создаёт разрешитель с пустым каталогом.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionResolver() {
+        this.catalog = new AtomicReference<>(VersionSet.ofSorted(new long[0]));
+    }
+
+    /**
+     * Создаёт разрешитель с переданным каталогом.
+     *
+     * @param catalog каталог.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionResolver(final @NotNull VersionSet catalog) throws NullException {
+        this.catalog = new AtomicReference<>(Validator.notNull(catalog, "The passed catalog"));
+    }
+
+    /**
+     * Возвращает текущий каталог. Последующие изменения разрешителя в нём не отражаются.
+     *
+     * @return Каталог.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @NotNull VersionSet catalog() {
+        return catalog.get();
+    }
+
+    /**
+     * Добавляет переданную упакованную версию в каталог.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное значение, если каталог изменился, в противном случае — ложное значение.
+     *
+     * @see #add(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public boolean add(final long version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("The passed packed version cannot be negative");
+        }
+        while (true) {
+            final var current = catalog.get();
+            final var next = current.with(version);
+            if (next == current) {
+                return false;
+            }
+            if (catalog.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Добавляет переданную версию в каталог.
+     *
+     * @param version версия.
+     *
+     * @return Истинное значение, если каталог изменился, в противном случае — ложное значение.
+     *
+     * @see #add(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean add(final @NotNull SingleVersion version) throws NullException {
+        return add(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Удаляет переданную упакованную версию из каталога.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное значение, если каталог изменился, в противном случае — ложное значение.
+     *
+     * @see #remove(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public boolean remove(final long version) {
+        while (true) {
+            final var current = catalog.get();
+            final var next = current.without(version);
+            if (next == current) {
+                return false;
+            }
+            if (catalog.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Удаляет переданную версию из каталога.
+     *
+     * @param version версия.
+     *
+     * @return Истинное значение, если каталог изменился, в противном случае — ложное значение.
+     *
+     * @see #remove(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean remove(final @NotNull SingleVersion version) throws NullException {
+        return remove(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Заменяет каталог переданным.
+     *
+     * @param catalog каталог.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public void replace(final @NotNull VersionSet catalog) throws NullException {
+        this.catalog.set(Validator.notNull(catalog, "The passed catalog"));
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию каталога, удовлетворяющую переданному ограничению, или
+     * {@link VersionSet#NONE}, если такой версии нет.
+     *
+     * @param constraint ограничение.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @see #bestMatch(VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public long bestMatchPacked(final @NotNull VersionRange constraint) throws NullException {
+        Validator.notNull(constraint, "The passed constraint");
+        final var current = catalog.get();
+        for (var interval = constraint.intervals() - 1; interval >= 0; --interval) {
+            final var candidate = current.lower(constraint.end(interval));
+            if (candidate == VersionSet.NONE) {
+                return VersionSet.NONE;
+            }
+            if (candidate >= constraint.start(interval)) {
+                return candidate;
+            }
+        }
+        return VersionSet.NONE;
+    }
+
+    /**
+     * Возвращает наибольшую версию каталога, удовлетворяющую переданному ограничению, или {@code null}, если такой
+     * версии нет.
+     *
+     * @param constraint ограничение.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #bestMatchPacked(VersionRange)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion bestMatch(final @NotNull VersionRange constraint) throws NullException {
+        final var packed = bestMatchPacked(constraint);
+        return packed == VersionSet.NONE ? null : Version.unpack(packed);
+    }
+
+    /**
+     * Возвращает множество версий каталога, удовлетворяющих переданному ограничению. Для ограничения из одного
+     * полуинтервала множество разделяет массив с каталогом и строится за логарифмическое время.
+     *
+     * @param constraint ограничение.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @NotNull VersionSet allMatching(final @NotNull VersionRange constraint) throws NullException {
+        Validator.notNull(constraint, "The passed constraint");
+        final var current = catalog.get();
+        final var intervals = constraint.intervals();
+        if (intervals == 1) {
+            return current.subSet(constraint.start(0), true, constraint.end(0), false);
+        }
+        var result = new long[0];
+        for (var interval = 0; interval < intervals; ++interval) {
+            final var part = current.subSet(constraint.start(interval), true, constraint.end(interval), false);
+            if (!part.isEmpty()) {
+                final var offset = result.length;
+                result = Arrays.copyOf(result, offset + part.size());
+                for (var index = 0; index < part.size(); ++index) {
+                    result[offset + index] = part.packed(index);
+                }
+            }
+        }
+        return VersionSet.ofSorted(result);
+    }
+
+    /**
+     * Возвращает множество, содержащее наибольшую версию каталога для каждого главного номера. Поиск занимает
+     * логарифмическое время от размера каталога на каждый главный номер.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull VersionSet latestPerMajor() {
+        final var current = catalog.get();
+        var result = new long[8];
+        var size = 0;
+        for (var version = current.isEmpty() ? VersionSet.NONE : current.packed(current.size() - 1);
+             version != VersionSet.NONE; version = current.lower(Version.pack(Version.major(version), 0))) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size << 1);
+            }
+            result[size++] = version;
+        }
+        final var sorted = new long[size];
+        for (var index = 0; index < size; ++index) {
+            sorted[index] = result[size - 1 - index];
+        }
+        return VersionSet.ofSorted(sorted);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionResolver" + catalog.get();
+    }
+
+}
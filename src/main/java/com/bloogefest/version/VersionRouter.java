@@ -0,0 +1,379 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Маршрутизатор, выбирающий цель (например, пул серверов) по версии клиента.
+ * <p>
+ * Упорядоченные правила вида «диапазон версий → цель» {@linkplain Builder#build() компилируются} в неизменяемую
+ * {@linkplain Table таблицу}: отсортированный массив границ полуинтервалов, на каждом из которых выбирается одна и та
+ * же цель. Поэтому выбор цели выполняется одним двоичным поиском без создания объектов, независимо от количества
+ * правил.
+ * <p>
+ * Таблица маршрутизатора {@linkplain #swap(Table) заменяется} атомарно: выбирающие цель потоки не блокируются и
+ * видят либо старую, либо новую таблицу целиком.
+ *
+ * @param <T> тип цели.
+ *
+ * @see Table
+ * @see Builder
+ * @since 1.0.0-RC2
+ */
+public final class VersionRouter<T> {
+
+    /**
+     * Текущая таблица.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final AtomicReference<Table<T>> table;
+
+    /**
+     * Создаёт маршрутизатор с переданной таблицей.
+     *
+     * @param table таблица.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public VersionRouter(final @NotNull Table<T> table) throws NullException {
+        this.table = new AtomicReference<>(Validator.notNull(table, "The passed table"));
+    }
+
+    /**
+     * Создаёт и возвращает построитель таблицы.
+     *
+     * @param <T> тип цели.
+     *
+     * @return Построитель таблицы.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public static <T> @NotNull Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Возвращает цель переданной упакованной версии или {@code null}, если цели нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Цель или {@code null}.
+     *
+     * @see Table#route(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public @Nullable T route(final long version) {
+        return table.get().route(version);
+    }
+
+    /**
+     * Возвращает цель версии с переданными главным и второстепенным номерами или {@code null}, если цели нет.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Цель или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> _")
+    public @Nullable T route(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                             final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return table.get().route(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает цель переданной версии или {@code null}, если цели нет.
+     *
+     * @param version версия.
+     *
+     * @return Цель или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable T route(final @NotNull SingleVersion version) throws NullException {
+        return table.get().route(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает текущую таблицу.
+     *
+     * @return Таблицу.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @NotNull Table<T> table() {
+        return table.get();
+    }
+
+    /**
+     * Атомарно заменяет текущую таблицу переданной и возвращает заменённую.
+     *
+     * @param table новая таблица.
+     *
+     * @return Заменённую таблицу.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @NotNull Table<T> swap(final @NotNull Table<T> table) throws NullException {
+        return this.table.getAndSet(Validator.notNull(table, "The passed table"));
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionRouter[" + table.get() + ']';
+    }
+
+    /**
+     * Неизменяемая таблица маршрутизации: отсортированные начала полуинтервалов упакованных версий и цели, выбираемые
+     * на каждом из них. Первый полуинтервал начинается с нулевой версии, а последний не ограничен сверху.
+     *
+     * @param <T> тип цели.
+     *
+     * @see Builder
+     * @since 1.0.0-RC2
+     */
+    public static final class Table<T> {
+
+        /**
+         * Отсортированные начала полуинтервалов.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final long[] starts;
+
+        /**
+         * Цели полуинтервалов; соседние цели различны.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final Object[] targets;
+
+        private Table(final @NotNull long[] starts, final @NotNull Object[] targets) {
+            this.starts = starts;
+            this.targets = targets;
+        }
+
+        /**
+         * Возвращает цель переданной упакованной версии или {@code null}, если цели нет.
+         *
+         * @param version упакованная версия.
+         *
+         * @return Цель или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> _")
+        @SuppressWarnings("unchecked")
+        public @Nullable T route(final long version) {
+            final var index = Arrays.binarySearch(starts, version);
+            final var segment = index >= 0 ? index : -index - 2;
+            return segment < 0 ? null : (T) targets[segment];
+        }
+
+        /**
+         * Возвращает количество полуинтервалов.
+         *
+         * @return Количество полуинтервалов.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> const")
+        public @Range(from = 1, to = Integer.MAX_VALUE) int segments() {
+            return starts.length;
+        }
+
+        /**
+         * Возвращает упакованную версию, с которой начинается полуинтервал по переданному индексу.
+         *
+         * @param segment индекс полуинтервала.
+         *
+         * @return Упакованную версию.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> const")
+        public @Range(from = 0, to = Long.MAX_VALUE) long start(final int segment) throws IndexOutOfBoundsException {
+            return starts[Objects.checkIndex(segment, starts.length)];
+        }
+
+        /**
+         * Возвращает цель полуинтервала по переданному индексу или {@code null}, если цели нет.
+         *
+         * @param segment индекс полуинтервала.
+         *
+         * @return Цель или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> const")
+        @SuppressWarnings("unchecked")
+        public @Nullable T target(final int segment) throws IndexOutOfBoundsException {
+            return (T) targets[Objects.checkIndex(segment, starts.length)];
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        @Contract("-> new")
+        public @NotNull String toString() {
+            final var builder = new StringBuilder("Table[");
+            for (var index = 0; index < starts.length; ++index) {
+                if (index > 0) {
+                    builder.append(", ");
+                }
+                builder.append(Version.unpack(starts[index])).append("+ -> ").append(targets[index]);
+            }
+            return builder.append(']').toString();
+        }
+
+    }
+
+    /**
+     * Построитель {@linkplain Table таблицы маршрутизации}.
+     * <p>
+     * Правила проверяются по порядку добавления: версия направляется к цели первого правила, диапазон которого её
+     * содержит, а если такого правила нет — к {@linkplain #fallback(Object) цели по умолчанию}.
+     *
+     * @param <T> тип цели.
+     *
+     * @see VersionRouter#builder()
+     * @since 1.0.0-RC2
+     */
+    public static final class Builder<T> {
+
+        private final ArrayList<VersionRange> ranges = new ArrayList<>();
+
+        private final ArrayList<T> targets = new ArrayList<>();
+
+        private @Nullable T fallback;
+
+        private Builder() {
+        }
+
+        /**
+         * Добавляет правило, направляющее версии из переданного диапазона к переданной цели.
+         *
+         * @param range диапазон версий.
+         * @param target цель.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("!null, !null -> this; _, _ -> fail")
+        public @NotNull Builder<T> rule(final @NotNull VersionRange range, final @NotNull T target)
+                throws NullException {
+            ranges.add(Validator.notNull(range, "The passed range"));
+            targets.add(Validator.notNull(target, "The passed target"));
+            return this;
+        }
+
+        /**
+         * Устанавливает цель версий, не подходящих ни под одно правило. По умолчанию такие версии не имеют цели.
+         *
+         * @param target цель или {@code null}.
+         *
+         * @return Текущий построитель.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<T> fallback(final @Nullable T target) {
+            fallback = target;
+            return this;
+        }
+
+        /**
+         * Компилирует правила и возвращает таблицу маршрутизации.
+         * <p>
+         * Границы всех диапазонов разбивают версии на полуинтервалы, внутри каждого из которых все правила либо
+         * выполняются, либо нет; цель каждого полуинтервала определяется по его началу, а соседние полуинтервалы с
+         * одинаковой целью объединяются.
+         *
+         * @return Таблицу маршрутизации.
+         *
+         * @since 1.0.0-RC2
+         */
+        @Contract("-> new")
+        public @NotNull Table<T> build() {
+            var bounds = new long[16];
+            var size = 0;
+            bounds[size++] = 0;
+            for (final var range : ranges) {
+                for (var interval = 0; interval < range.intervals(); ++interval) {
+                    if (size + 2 > bounds.length) {
+                        bounds = Arrays.copyOf(bounds, bounds.length << 1);
+                    }
+                    bounds[size++] = range.start(interval);
+                    bounds[size++] = range.end(interval);
+                }
+            }
+            Arrays.sort(bounds, 0, size);
+            final var starts = new long[size];
+            final var targets = new Object[size];
+            var segments = 0;
+            for (var index = 0; index < size; ++index) {
+                final var start = bounds[index];
+                if (start == Long.MAX_VALUE || index > 0 && start == bounds[index - 1]) {
+                    continue;
+                }
+                final var target = target(start);
+                if (segments > 0 && targets[segments - 1] == target) {
+                    continue;
+                }
+                starts[segments] = start;
+                targets[segments++] = target;
+            }
+            return new Table<>(Arrays.copyOf(starts, segments), Arrays.copyOf(targets, segments));
+        }
+
+        /**
+         * Возвращает цель первого правила, диапазон которого содержит переданную упакованную версию, или
+         * {@linkplain #fallback(Object) цель по умолчанию}.
+         *
+         * @param version упакованная версия.
+         *
+         * @return Цель или {@code null}.
+         *
+         * @since 1.0.0-RC2
+         */
+        private @Nullable T target(final long version) {
+            for (var index = 0; index < ranges.size(); ++index) {
+                if (ranges.get(index).matches(version)) {
+                    return targets.get(index);
+                }
+            }
+            return fallback;
+        }
+
+    }
+
+}
@@ -0,0 +1,673 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Неизменяемое отсортированное множество версий, хранящихся в
+ * {@linkplain Version#pack(int, int) упакованном виде} в массиве типа {@code long[]}.
+ * <p>
+ * Версии сравниваются так же, как и {@linkplain DoubleVersion#same(SingleVersion) версии двойного формата}, поэтому
+ * версии {@code 1} и {@code 1.0} считаются одним элементом. Поиск выполняется двоичным поиском за логарифмическое
+ * время, а подмножества разделяют массив с исходным множеством.
+ *
+ * @see #of(SingleVersion...)
+ * @see #of(Collection)
+ * @see #ofPacked(long...)
+ * @since 1.0.0-RC2
+ */
+public final class VersionSet implements Iterable<DoubleVersion> {
+
+    /**
+     * Значение, возвращаемое методами поиска упакованных версий при отсутствии подходящей версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    public static final long NONE = -1L;
+
+    private static final VersionSet EMPTY = new VersionSet(new long[0], 0, 0);
+
+    /**
+     * Отсортированные уникальные упакованные версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final long[] packed;
+
+    /**
+     * Начальный индекс (включительно).
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int from;
+
+    /**
+     * Конечный индекс (исключительно).
+     *
+     * @since 1.0.0-RC2
+     */
+    private final int to;
+
+    private VersionSet(final @NotNull long[] packed, final int from, final int to) {
+        this.packed = packed;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Создаёт и возвращает множество на основе переданных версий.
+     *
+     * @param versions версии.
+     *
+     * @return Множество версий.
+     *
+     * @see #of(Collection)
+     * @see #ofPacked(long...)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionSet of(final @NotNull SingleVersion... versions) throws NullException {
+        final var packed = new long[Validator.notNull(versions, "The passed versions").length];
+        for (var index = 0; index < packed.length; ++index) {
+            packed[index] = Validator.notNull(versions[index], "The passed version").pack();
+        }
+        return sorted(packed);
+    }
+
+    /**
+     * Создаёт и возвращает множество на основе переданной коллекции версий.
+     *
+     * @param versions коллекция версий.
+     *
+     * @return Множество версий.
+     *
+     * @see #of(SingleVersion...)
+     * @see #ofPacked(long...)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionSet of(final @NotNull Collection<? extends SingleVersion> versions)
+            throws NullException {
+        final var packed = new long[Validator.notNull(versions, "The passed versions").size()];
+        var index = 0;
+        for (final var version : versions) {
+            packed[index++] = Validator.notNull(version, "The passed version").pack();
+        }
+        return sorted(index == packed.length ? packed : Arrays.copyOf(packed, index));
+    }
+
+    /**
+     * Создаёт и возвращает множество на основе переданных {@linkplain Version#pack(int, int) упакованных версий}.
+     * Переданный массив копируется.
+     *
+     * @param packed упакованные версии.
+     *
+     * @return Множество версий.
+     *
+     * @see #of(SingleVersion...)
+     * @see #of(Collection)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull VersionSet ofPacked(final @NotNull long... packed) throws NullException {
+        final var copy = Validator.notNull(packed, "The passed versions").clone();
+        for (final var version : copy) {
+            if (version < 0) {
+                throw new IllegalArgumentException("The passed versions contain a negative packed version");
+            }
+        }
+        return sorted(copy);
+    }
+
+    /**
+     * Возвращает множество на основе переданного отсортированного массива уникальных упакованных версий без его
+     * копирования.
+     *
+     * @param packed отсортированные уникальные упакованные версии.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    static @NotNull VersionSet ofSorted(final @NotNull long[] packed) {
+        return packed.length == 0 ? EMPTY : new VersionSet(packed, 0, packed.length);
+    }
+
+    /**
+     * Сортирует переданный массив, удаляет из него повторы и возвращает множество на его основе.
+     *
+     * @param packed упакованные версии.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionSet sorted(final @NotNull long[] packed) {
+        if (packed.length == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(packed);
+        var size = 1;
+        for (var index = 1; index < packed.length; ++index) {
+            if (packed[index] != packed[size - 1]) {
+                packed[size++] = packed[index];
+            }
+        }
+        return new VersionSet(packed, 0, size);
+    }
+
+    /**
+     * Возвращает количество версий.
+     *
+     * @return Количество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return to - from;
+    }
+
+    /**
+     * Возвращает истинное значение, если множество не содержит версий, в противном случае — ложное значение.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public boolean isEmpty() {
+        return to == from;
+    }
+
+    /**
+     * Возвращает {@linkplain Version#pack(int, int) упакованную версию} по переданному индексу.
+     *
+     * @param index индекс.
+     *
+     * @return Упакованную версию.
+     *
+     * @see #get(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public @Range(from = 0, to = Long.MAX_VALUE) long packed(final int index) throws IndexOutOfBoundsException {
+        return packed[from + Objects.checkIndex(index, size())];
+    }
+
+    /**
+     * Возвращает версию по переданному индексу.
+     *
+     * @param index индекс.
+     *
+     * @return Версию двойного формата.
+     *
+     * @see #packed(int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public @NotNull DoubleVersion get(final int index) throws IndexOutOfBoundsException {
+        return Version.unpack(packed(index));
+    }
+
+    /**
+     * Возвращает истинное значение, если множество содержит переданную
+     * {@linkplain Version#pack(int, int) упакованную версию}, в противном случае — ложное значение.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #contains(SingleVersion)
+     * @see #contains(int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public boolean contains(final long version) {
+        return Arrays.binarySearch(packed, from, to, version) >= 0;
+    }
+
+    /**
+     * Возвращает истинное значение, если множество содержит версию с переданными главным и второстепенным номерами, в
+     * противном случае — ложное значение.
+     *
+     * @param major главный номер версии.
+     * @param minor второстепенный номер версии.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #contains(long)
+     * @see #contains(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> const")
+    public boolean contains(final @Range(from = 0, to = Integer.MAX_VALUE) int major,
+                            final @Range(from = 0, to = Integer.MAX_VALUE) int minor) {
+        return contains(Version.pack(major, minor));
+    }
+
+    /**
+     * Возвращает истинное значение, если множество содержит такую же версию, как и переданная, в противном случае —
+     * ложное значение.
+     *
+     * @param version версия.
+     *
+     * @return Истинное или ложное значение.
+     *
+     * @see #contains(long)
+     * @see #contains(int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean contains(final @NotNull SingleVersion version) throws NullException {
+        return contains(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию, не превышающую переданную, или {@link #NONE}, если такой версии нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link #NONE}.
+     *
+     * @see #floor(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public long floor(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        return index >= 0 ? version : at(-index - 2);
+    }
+
+    /**
+     * Возвращает наименьшую упакованную версию, не меньшую переданной, или {@link #NONE}, если такой версии нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link #NONE}.
+     *
+     * @see #ceiling(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public long ceiling(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        return index >= 0 ? version : at(-index - 1);
+    }
+
+    /**
+     * Возвращает наименьшую упакованную версию, строго большую переданной, или {@link #NONE}, если такой версии нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link #NONE}.
+     *
+     * @see #higher(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public long higher(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        return at(index >= 0 ? index + 1 : -index - 1);
+    }
+
+    /**
+     * Возвращает наибольшую упакованную версию, строго меньшую переданной, или {@link #NONE}, если такой версии нет.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Упакованную версию или {@link #NONE}.
+     *
+     * @see #lower(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> const")
+    public long lower(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        return at(index >= 0 ? index - 1 : -index - 2);
+    }
+
+    /**
+     * Возвращает наибольшую версию, не превышающую переданную, или {@code null}, если такой версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #floor(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion floor(final @NotNull SingleVersion version) throws NullException {
+        return unpack(floor(Validator.notNull(version, "The passed version").pack()));
+    }
+
+    /**
+     * Возвращает наименьшую версию, не меньшую переданной, или {@code null}, если такой версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #ceiling(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion ceiling(final @NotNull SingleVersion version) throws NullException {
+        return unpack(ceiling(Validator.notNull(version, "The passed version").pack()));
+    }
+
+    /**
+     * Возвращает наименьшую версию, строго большую переданной, или {@code null}, если такой версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #higher(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion higher(final @NotNull SingleVersion version) throws NullException {
+        return unpack(higher(Validator.notNull(version, "The passed version").pack()));
+    }
+
+    /**
+     * Возвращает наибольшую версию, строго меньшую переданной, или {@code null}, если такой версии нет.
+     *
+     * @param version версия.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #lower(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable DoubleVersion lower(final @NotNull SingleVersion version) throws NullException {
+        return unpack(lower(Validator.notNull(version, "The passed version").pack()));
+    }
+
+    /**
+     * Возвращает наименьшую версию или {@code null}, если множество пусто.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #last()
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public @Nullable DoubleVersion first() {
+        return unpack(at(from));
+    }
+
+    /**
+     * Возвращает наибольшую версию или {@code null}, если множество пусто.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @see #first()
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> const")
+    public @Nullable DoubleVersion last() {
+        return unpack(at(to - 1));
+    }
+
+    /**
+     * Возвращает подмножество версий, лежащих между переданными упакованными версиями. Подмножество разделяет массив с
+     * текущим множеством.
+     *
+     * @param lower нижняя граница.
+     * @param lowerInclusive истинное значение, если нижняя граница входит в подмножество.
+     * @param upper верхняя граница.
+     * @param upperInclusive истинное значение, если верхняя граница входит в подмножество.
+     *
+     * @return Подмножество версий.
+     *
+     * @see #subSet(SingleVersion, boolean, SingleVersion, boolean)
+     * @see #headSet(long, boolean)
+     * @see #tailSet(long, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _, _, _ -> new")
+    public @NotNull VersionSet subSet(final long lower, final boolean lowerInclusive, final long upper,
+                                      final boolean upperInclusive) {
+        final var start = bound(lower, !lowerInclusive);
+        final var end = Math.max(start, bound(upper, upperInclusive));
+        return start == from && end == to ? this : new VersionSet(packed, start, end);
+    }
+
+    /**
+     * Возвращает подмножество версий, лежащих между переданными версиями. Подмножество разделяет массив с текущим
+     * множеством.
+     *
+     * @param lower нижняя граница.
+     * @param lowerInclusive истинное значение, если нижняя граница входит в подмножество.
+     * @param upper верхняя граница.
+     * @param upperInclusive истинное значение, если верхняя граница входит в подмножество.
+     *
+     * @return Подмножество версий.
+     *
+     * @see #subSet(long, boolean, long, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, !null, _ -> new; _, _, _, _ -> fail")
+    public @NotNull VersionSet subSet(final @NotNull SingleVersion lower, final boolean lowerInclusive,
+                                      final @NotNull SingleVersion upper, final boolean upperInclusive)
+            throws NullException {
+        return subSet(Validator.notNull(lower, "The passed lower version").pack(), lowerInclusive,
+                      Validator.notNull(upper, "The passed upper version").pack(), upperInclusive);
+    }
+
+    /**
+     * Возвращает подмножество версий, не превышающих (или строго меньших) переданную упакованную версию.
+     *
+     * @param upper верхняя граница.
+     * @param inclusive истинное значение, если верхняя граница входит в подмножество.
+     *
+     * @return Подмножество версий.
+     *
+     * @see #subSet(long, boolean, long, boolean)
+     * @see #tailSet(long, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> new")
+    public @NotNull VersionSet headSet(final long upper, final boolean inclusive) {
+        return subSet(Long.MIN_VALUE, true, upper, inclusive);
+    }
+
+    /**
+     * Возвращает подмножество версий, не меньших (или строго больших) переданной упакованной версии.
+     *
+     * @param lower нижняя граница.
+     * @param inclusive истинное значение, если нижняя граница входит в подмножество.
+     *
+     * @return Подмножество версий.
+     *
+     * @see #subSet(long, boolean, long, boolean)
+     * @see #headSet(long, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_, _ -> new")
+    public @NotNull VersionSet tailSet(final long lower, final boolean inclusive) {
+        return subSet(lower, inclusive, Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Возвращает множество, содержащее версии текущего множества и переданную упакованную версию, или текущее
+     * множество, если оно уже содержит её.
+     *
+     * @param version неотрицательная упакованная версия.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @NotNull VersionSet with(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        if (index >= 0) {
+            return this;
+        }
+        final var position = -index - 1;
+        final var result = new long[to - from + 1];
+        System.arraycopy(packed, from, result, 0, position - from);
+        result[position - from] = version;
+        System.arraycopy(packed, position, result, position - from + 1, to - position);
+        return new VersionSet(result, 0, result.length);
+    }
+
+    /**
+     * Возвращает множество, содержащее версии текущего множества, кроме переданной упакованной версии, или текущее
+     * множество, если оно не содержит её.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Множество версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @NotNull VersionSet without(final long version) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        if (index < 0) {
+            return this;
+        }
+        final var result = new long[to - from - 1];
+        System.arraycopy(packed, from, result, 0, index - from);
+        System.arraycopy(packed, index + 1, result, index - from, to - index - 1);
+        return ofSorted(result);
+    }
+
+    /**
+     * Возвращает копию {@linkplain Version#pack(int, int) упакованных версий} в порядке возрастания.
+     *
+     * @return Упакованные версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> new")
+    public @NotNull long[] toPackedArray() {
+        return Arrays.copyOfRange(packed, from, to);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull Iterator<DoubleVersion> iterator() {
+        return new Iterator<>() {
+
+            private int index = from;
+
+            @Override
+            public boolean hasNext() {
+                return index < to;
+            }
+
+            @Override
+            public @NotNull DoubleVersion next() {
+                if (index >= to) {
+                    throw new NoSuchElementException();
+                }
+                return Version.unpack(packed[index++]);
+            }
+
+        };
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("!null -> _; _ -> false")
+    public boolean equals(final @Nullable Object object) {
+        return object == this || object instanceof VersionSet set &&
+                                 Arrays.equals(packed, from, to, set.packed, set.from, set.to);
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> const")
+    public int hashCode() {
+        var hash = 1;
+        for (var index = from; index < to; ++index) {
+            hash = 31 * hash + Long.hashCode(packed[index]);
+        }
+        return hash;
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        final var joiner = new StringJoiner(", ", "[", "]");
+        for (var index = from; index < to; ++index) {
+            joiner.add(Version.major(packed[index]) + "." + Version.minor(packed[index]));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Возвращает упакованную версию по переданному абсолютному индексу или {@link #NONE}, если индекс выходит за
+     * границы множества.
+     *
+     * @param index абсолютный индекс.
+     *
+     * @return Упакованную версию или {@link #NONE}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private long at(final int index) {
+        return index >= from && index < to ? packed[index] : NONE;
+    }
+
+    /**
+     * Возвращает абсолютный индекс первой версии, большей (или не меньшей) переданной упакованной версии.
+     *
+     * @param version упакованная версия.
+     * @param inclusive истинное значение, если переданная версия должна оказаться слева от индекса.
+     *
+     * @return Абсолютный индекс.
+     *
+     * @since 1.0.0-RC2
+     */
+    private int bound(final long version, final boolean inclusive) {
+        final var index = Arrays.binarySearch(packed, from, to, version);
+        return index >= 0 ? inclusive ? index + 1 : index : -index - 1;
+    }
+
+    /**
+     * Распаковывает и возвращает переданную упакованную версию или {@code null}, если она равна {@link #NONE}.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Версию двойного формата или {@code null}.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @Nullable DoubleVersion unpack(final long version) {
+        return version == NONE ? null : Version.unpack(version);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+
+import java.util.ServiceLoader;
+
+/**
+ * Держатель {@linkplain VersionMetrics приёмника метрик}, выбранного при загрузке класса.
+ *
+ * @see VersionMetrics#current()
+ * @since 1.0.0-RC2
+ */
+final class VersionTelemetry {
+
+    /**
+     * Используемый приёмник метрик.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final VersionMetrics METRICS = load();
+
+    private VersionTelemetry() {
+    }
+
+    /**
+     * Выбирает и возвращает приёмник метрик по {@linkplain VersionMetrics#PROPERTY системному свойству} или
+     * {@linkplain ServiceLoader загрузчику служб}.
+     *
+     * @return Приёмник метрик.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionMetrics load() {
+        final var property = System.getProperty(VersionMetrics.PROPERTY, "");
+        if ("counters".equals(property)) {
+            return new VersionMetrics.Counters();
+        }
+        if ("jfr".equals(property)) {
+            return new VersionMetrics.Jfr();
+        }
+        return ServiceLoader.load(VersionMetrics.class, VersionMetrics.class.getClassLoader())
+                            .findFirst()
+                            .orElseGet(Noop::new);
+    }
+
+    /**
+     * Приёмник, ничего не делающий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Noop implements VersionMetrics {
+
+    }
+
+}
@@ -0,0 +1,442 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.annotation.Range;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Потокобезопасный кеш значений, вычисленных для ключей и версий, с ограниченным размером и вытеснением давно не
+ * использованных записей.
+ * <p>
+ * Для каждого ключа хранится одна запись: значение и упакованная версия, для которой оно вычислено. Кроме того, кеш
+ * хранит упакованный нижний порог версий, общий для всех ключей, и записи старее порога недействительны. Поэтому
+ * {@linkplain #invalidateBelow(long) инвалидация} всех старых записей сводится к повышению порога и занимает
+ * постоянное время независимо от количества записей, а поиск отвергает устаревшую запись одним сравнением её версии с
+ * порогом и удаляет её. Инвалидация порогом глобальна: она затрагивает записи всех ключей, вычисленные для более
+ * старых версий, а для отдельного ключа служит {@link #invalidate(Object)}.
+ * <p>
+ * Записи распределены по сегментам по хеш-коду ключа. Каждый сегмент имеет собственную блокировку и вытесняет давно не
+ * использованные записи независимо от других, поэтому обращения к разным сегментам не мешают друг другу. Если порог
+ * повысился с прошлой очистки переполненного сегмента, сегмент сначала удаляет все устаревшие записи и лишь при их
+ * отсутствии вытесняет давно не использованную действительную запись.
+ *
+ * @param <K> тип ключей.
+ * @param <V> тип значений.
+ *
+ * @since 1.0.0-RC2
+ */
+public final class VersionedCache<K, V> {
+
+    /**
+     * Сегменты.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final Segment<K, V>[] segments;
+
+    /**
+     * Нижний порог упакованных версий действительных записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    private final AtomicLong watermark = new AtomicLong();
+
+    /**
+     * Создаёт кеш с переданной вместимостью и количеством сегментов, зависящим от количества процессоров.
+     *
+     * @param capacity наибольшее количество записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    public VersionedCache(final @Range(from = 1, to = Integer.MAX_VALUE) int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Создаёт кеш с переданной вместимостью и количеством сегментов. Количество сегментов округляется вверх до
+     * степени двойки и ограничивается вместимостью.
+     *
+     * @param capacity наибольшее количество записей.
+     * @param segments количество сегментов.
+     *
+     * @since 1.0.0-RC2
+     */
+    @SuppressWarnings("unchecked")
+    public VersionedCache(final @Range(from = 1, to = Integer.MAX_VALUE) int capacity,
+                          final @Range(from = 1, to = 1 << 16) int segments) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The passed capacity must be positive");
+        }
+        if (segments < 1 || segments > 1 << 16) {
+            throw new IllegalArgumentException("The passed number of segments is out of range");
+        }
+        var count = Integer.highestOneBit(segments * 2 - 1);
+        while (count > capacity) {
+            count >>>= 1;
+        }
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+        for (var index = 0; index < count; ++index) {
+            this.segments[index] = new Segment<>(capacity / count + (index < capacity % count ? 1 : 0), watermark);
+        }
+    }
+
+    /**
+     * Возвращает нижний порог упакованных версий действительных записей.
+     *
+     * @return Упакованную версию.
+     *
+     * @see #invalidateBelow(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public long watermark() {
+        return watermark.get();
+    }
+
+    /**
+     * Возвращает значение переданного ключа или {@code null}, если его нет или оно устарело.
+     *
+     * @param key ключ.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(Object, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public @Nullable V get(final @NotNull K key) throws NullException {
+        return get(key, 0);
+    }
+
+    /**
+     * Возвращает значение переданного ключа, вычисленное для версии не старше переданной упакованной версии, или
+     * {@code null}, если его нет или оно устарело.
+     *
+     * @param key ключ.
+     * @param minimum наименьшая упакованная версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(Object, SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> _; _, _ -> fail")
+    public @Nullable V get(final @NotNull K key, final long minimum) throws NullException {
+        final var hash = hash(Validator.notNull(key, "The passed key"));
+        final var threshold = Math.max(minimum, watermark.get());
+        final var segment = segments[hash & segments.length - 1];
+        synchronized (segment) {
+            final var entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.version >= threshold) {
+                return entry.value;
+            }
+            if (entry.version < watermark.get()) {
+                segment.remove(key);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Возвращает значение переданного ключа, вычисленное для версии не старше переданной версии, или {@code null},
+     * если его нет или оно устарело.
+     *
+     * @param key ключ.
+     * @param minimum наименьшая версия.
+     *
+     * @return Значение или {@code null}.
+     *
+     * @see #get(Object, long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null -> _; _, _ -> fail")
+    public @Nullable V get(final @NotNull K key, final @NotNull SingleVersion minimum) throws NullException {
+        return get(key, Validator.notNull(minimum, "The passed minimum").pack());
+    }
+
+    /**
+     * Возвращает упакованную версию значения переданного ключа или {@link VersionSet#NONE}, если его нет или оно
+     * устарело.
+     *
+     * @param key ключ.
+     *
+     * @return Упакованную версию или {@link VersionSet#NONE}.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public long version(final @NotNull K key) throws NullException {
+        final var hash = hash(Validator.notNull(key, "The passed key"));
+        final var segment = segments[hash & segments.length - 1];
+        final long version;
+        synchronized (segment) {
+            final var entry = segment.get(key);
+            version = entry == null ? VersionSet.NONE : entry.version;
+        }
+        return version >= watermark.get() ? version : VersionSet.NONE;
+    }
+
+    /**
+     * Сохраняет значение переданного ключа, вычисленное для переданной упакованной версии, если оно не старше порога
+     * и сохранённого значения ключа. При переполнении сегмента удаляются устаревшие записи, а если их нет, то
+     * вытесняется давно не использованная запись.
+     *
+     * @param key ключ.
+     * @param version упакованная версия.
+     * @param value значение.
+     *
+     * @return Истинное значение, если значение сохранено, в противном случае — ложное значение.
+     *
+     * @see #put(Object, SingleVersion, Object)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _, !null -> _; _, _, _ -> fail")
+    public boolean put(final @NotNull K key, final long version, final @NotNull V value) throws NullException {
+        final var hash = hash(Validator.notNull(key, "The passed key"));
+        Validator.notNull(value, "The passed value");
+        if (version < 0) {
+            throw new IllegalArgumentException("The passed packed version cannot be negative");
+        }
+        if (version < watermark.get()) {
+            return false;
+        }
+        final var segment = segments[hash & segments.length - 1];
+        synchronized (segment) {
+            if (version < watermark.get()) {
+                return false;
+            }
+            final var entry = segment.get(key);
+            if (entry != null && entry.version > version && entry.version >= watermark.get()) {
+                return false;
+            }
+            segment.put(key, new Entry<>(version, value));
+            return true;
+        }
+    }
+
+    /**
+     * Сохраняет значение переданного ключа, вычисленное для переданной версии, если оно не старше порога и
+     * сохранённого значения ключа. При переполнении сегмента удаляются устаревшие записи, а если их нет, то
+     * вытесняется давно не использованная запись.
+     *
+     * @param key ключ.
+     * @param version версия.
+     * @param value значение.
+     *
+     * @return Истинное значение, если значение сохранено, в противном случае — ложное значение.
+     *
+     * @see #put(Object, long, Object)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, !null, !null -> _; _, _, _ -> fail")
+    public boolean put(final @NotNull K key, final @NotNull SingleVersion version, final @NotNull V value)
+            throws NullException {
+        return put(key, Validator.notNull(version, "The passed version").pack(), value);
+    }
+
+    /**
+     * Повышает порог до переданной упакованной версии, делая недействительными записи всех ключей старее неё. Порог
+     * никогда не понижается. Занимает постоянное время: устаревшие записи удаляются при следующем обращении к ним или
+     * при следующем переполнении их сегмента, раньше действительных записей.
+     *
+     * @param version упакованная версия.
+     *
+     * @return Истинное значение, если порог повысился, в противном случае — ложное значение.
+     *
+     * @see #invalidateBelow(SingleVersion)
+     * @since 1.0.0-RC2
+     */
+    @Contract("_ -> _")
+    public boolean invalidateBelow(final long version) {
+        var current = watermark.get();
+        while (version > current) {
+            final var witness = watermark.compareAndExchange(current, version);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * Повышает порог до переданной версии, делая недействительными записи всех ключей старее неё. Порог никогда не
+     * понижается.
+     *
+     * @param version версия.
+     *
+     * @return Истинное значение, если порог повысился, в противном случае — ложное значение.
+     *
+     * @see #invalidateBelow(long)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean invalidateBelow(final @NotNull SingleVersion version) throws NullException {
+        return invalidateBelow(Validator.notNull(version, "The passed version").pack());
+    }
+
+    /**
+     * Удаляет значение переданного ключа.
+     *
+     * @param key ключ.
+     *
+     * @return Истинное значение, если значение было сохранено, в противном случае — ложное значение.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public boolean invalidate(final @NotNull K key) throws NullException {
+        final var hash = hash(Validator.notNull(key, "The passed key"));
+        final var segment = segments[hash & segments.length - 1];
+        synchronized (segment) {
+            return segment.remove(key) != null;
+        }
+    }
+
+    /**
+     * Возвращает количество записей, включая устаревшие, но ещё не удалённые.
+     *
+     * @return Количество записей.
+     *
+     * @since 1.0.0-RC2
+     */
+    @Contract("-> _")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        var size = 0;
+        for (final var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Удаляет все записи. Порог не изменяется.
+     *
+     * @since 1.0.0-RC2
+     */
+    public void clear() {
+        for (final var segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @since 1.0.0-RC2
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull String toString() {
+        return "VersionedCache[size=" + size() + ", watermark=" + Version.unpack(watermark.get()) + "]";
+    }
+
+    /**
+     * Возвращает перемешанный хеш-код переданного ключа.
+     *
+     * @param key ключ.
+     *
+     * @return Хеш-код.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static int hash(final @NotNull Object key) {
+        final var hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Запись: упакованная версия и значение.
+     *
+     * @param version упакованная версия.
+     * @param value значение.
+     * @param <V> тип значения.
+     *
+     * @since 1.0.0-RC2
+     */
+    private record Entry<V>(long version, @NotNull V value) {
+
+    }
+
+    /**
+     * Сегмент: отображение с порядком обращений, удаляющее при переполнении устаревшие записи, а если их нет, то
+     * вытесняющее давно не использованную запись. Обращения к сегменту выполняются под его блокировкой.
+     *
+     * @param <K> тип ключей.
+     * @param <V> тип значений.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Вместимость сегмента.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final int capacity;
+
+        /**
+         * Нижний порог упакованных версий действительных записей кеша.
+         *
+         * @since 1.0.0-RC2
+         */
+        private final AtomicLong watermark;
+
+        /**
+         * Порог, по которому сегмент очищался в последний раз. Пока порог кеша не превышает его, устаревших записей в
+         * сегменте нет, и переполнение обходится без просмотра записей.
+         *
+         * @since 1.0.0-RC2
+         */
+        private long swept;
+
+        private Segment(final int capacity, final @NotNull AtomicLong watermark) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.watermark = watermark;
+        }
+
+        /**
+         * @since 1.0.0-RC2
+         */
+        @Override
+        protected boolean removeEldestEntry(final @NotNull Map.Entry<K, Entry<V>> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            final var threshold = watermark.get();
+            if (threshold > swept) {
+                swept = threshold;
+                if (values().removeIf(entry -> entry.version < threshold)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,496 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.Contract;
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Этот класс содержит инструменты для работы с большими массивами версий: сортировку, пакетный разбор и приведение
+ * сторонних реализаций к встроенным.
+ *
+ * @see Version
+ * @since 1.0.0-RC2
+ */
+public final class Versions {
+
+    /**
+     * Размер массива, начиная с которого используется поразрядная сортировка.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int RADIX_THRESHOLD = 1 << 10;
+
+    /**
+     * Примерный размер участка в байтах, разбираемого одной задачей при параллельном разборе.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int PARALLEL_CHUNK = 1 << 20;
+
+    /**
+     * Наибольший размер отображаемой в память области файла в байтах.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final int REGION = 1 << 30;
+
+    private Versions() {
+    }
+
+    /**
+     * Сортирует переданный массив версий по возрастанию.
+     *
+     * @param versions массив версий.
+     * @param <T> тип версий.
+     *
+     * @see #sort(SingleVersion[], int, int)
+     * @see #sort(long[])
+     * @since 1.0.0-RC2
+     */
+    @Contract("null -> fail")
+    public static <T extends SingleVersion> void sort(final @NotNull T[] versions) throws NullException {
+        sort(Validator.notNull(versions, "The passed versions"), 0, versions.length);
+    }
+
+    /**
+     * Сортирует участок переданного массива версий по возрастанию.
+     * <p>
+     * Сортировка устойчива. Большие участки сортируются поразрядно по
+     * {@linkplain SingleVersion#pack() упакованным версиям}, без сравнения объектов, а разряды, одинаковые у всех
+     * версий, пропускаются. {@linkplain MultiVersion Многокомпонентные версии} с одинаковыми упакованными версиями
+     * затем досортировываются сравнением.
+     *
+     * @param versions массив версий.
+     * @param from начальный индекс (включительно).
+     * @param to конечный индекс (исключительно).
+     * @param <T> тип версий.
+     *
+     * @see #sort(SingleVersion[])
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> fail")
+    public static <T extends SingleVersion> void sort(final @NotNull T[] versions, final int from, final int to)
+            throws NullException, IndexOutOfBoundsException {
+        Objects.checkFromToIndex(from, to, Validator.notNull(versions, "The passed versions").length);
+        final var size = to - from;
+        if (size < RADIX_THRESHOLD) {
+            for (var index = from; index < to; ++index) {
+                Validator.notNull(versions[index], "The passed version");
+            }
+            Arrays.sort(versions, from, to);
+            return;
+        }
+        final var keys = new long[size];
+        var multi = false;
+        for (var index = 0; index < size; ++index) {
+            final var version = Validator.notNull(versions[from + index], "The passed version");
+            keys[index] = version.pack();
+            multi |= version instanceof MultiVersion;
+        }
+        final var values = Arrays.copyOfRange(versions, from, to, Object[].class);
+        radix(keys, values, size);
+        System.arraycopy(values, 0, versions, from, size);
+        if (multi) {
+            var start = 0;
+            for (var end = 1; end <= size; ++end) {
+                if (end == size || keys[end] != keys[start]) {
+                    if (end - start > 1) {
+                        Arrays.sort(versions, from + start, from + end);
+                    }
+                    start = end;
+                }
+            }
+        }
+    }
+
+    /**
+     * Сортирует переданный массив {@linkplain Version#pack(int, int) упакованных версий} по возрастанию.
+     *
+     * @param packed массив упакованных версий.
+     *
+     * @see #sort(long[], int, int)
+     * @since 1.0.0-RC2
+     */
+    @Contract("null -> fail")
+    public static void sort(final @NotNull long[] packed) throws NullException, IllegalArgumentException {
+        sort(Validator.notNull(packed, "The passed versions"), 0, packed.length);
+    }
+
+    /**
+     * Сортирует участок переданного массива {@linkplain Version#pack(int, int) упакованных версий} по возрастанию.
+     * Большие участки сортируются поразрядно. Отрицательные значения не являются упакованными версиями и отклоняются
+     * до сортировки независимо от размера участка, а массив в этом случае не изменяется.
+     *
+     * @param packed массив упакованных версий.
+     * @param from начальный индекс (включительно).
+     * @param to конечный индекс (исключительно).
+     *
+     * @see #sort(long[])
+     * @since 1.0.0-RC2
+     */
+    @Contract("null, _, _ -> fail")
+    public static void sort(final @NotNull long[] packed, final int from, final int to)
+            throws NullException, IndexOutOfBoundsException, IllegalArgumentException {
+        Objects.checkFromToIndex(from, to, Validator.notNull(packed, "The passed versions").length);
+        for (var index = from; index < to; ++index) {
+            if (packed[index] < 0) {
+                throw new IllegalArgumentException("The passed versions contain a negative packed version");
+            }
+        }
+        final var size = to - from;
+        if (size < RADIX_THRESHOLD) {
+            Arrays.sort(packed, from, to);
+            return;
+        }
+        final var keys = Arrays.copyOfRange(packed, from, to);
+        radix(keys, null, size);
+        System.arraycopy(keys, 0, packed, from, size);
+    }
+
+    /**
+     * Возвращает {@linkplain SingleVersion.Impl встроенную реализацию}, равную переданной версии: саму версию, если
+     * она уже является встроенной реализацией, или её копию того же формата в противном случае.
+     * <p>
+     * Метод является точкой расширения для сторонних реализаций: приведённые версии сравниваются мономорфным ядром
+     * сравнения встроенных реализаций, поэтому сторонние версии, участвующие в частых сравнениях, выгодно привести
+     * один раз при получении.
+     *
+     * @param version версия.
+     *
+     * @return Встроенную реализацию.
+     *
+     * @see SingleVersion.Impl
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> _; _ -> fail")
+    public static @NotNull SingleVersion.Impl adapt(final @NotNull SingleVersion version) throws NullException {
+        if (Validator.notNull(version, "The passed version") instanceof SingleVersion.Impl impl) {
+            return impl;
+        }
+        if (version instanceof MultiVersion multi) {
+            final var components = new int[multi.components()];
+            for (var index = 0; index < components.length; ++index) {
+                components[index] = multi.component(index);
+            }
+            return components.length == 3
+                   ? new TripleVersion.Impl(components[0], components[1], components[2], multi.preRelease(),
+                                            multi.build())
+                   : new MultiVersion.Impl(components, multi.preRelease(), multi.build());
+        }
+        return version instanceof DoubleVersion doubled
+               ? VersionCache.doubled(doubled.major(), doubled.minor())
+               : VersionCache.single(version.major());
+    }
+
+    /**
+     * Разбирает и возвращает {@linkplain Version#pack(int, int) упакованные версии} из оставшихся байтов переданного
+     * буфера. Позиция буфера не изменяется.
+     *
+     * @param buffer буфер байтов в кодировке ASCII.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @see #parseAll(ByteBuffer, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull long[] parseAll(final @NotNull ByteBuffer buffer)
+            throws NullException, VersionFormatException {
+        return parseAll(buffer, false);
+    }
+
+    /**
+     * Разбирает и возвращает {@linkplain Version#pack(int, int) упакованные версии} из оставшихся байтов переданного
+     * буфера. Позиция буфера не изменяется.
+     * <p>
+     * Версии формата {@code major[.minor]} разделяются переводами строк ({@code \n} или {@code \r\n}), а пустые строки
+     * пропускаются. Упакованные версии возвращаются в порядке следования в буфере; для получения множества их можно
+     * передать в {@link VersionSet#ofPacked(long...)}. Разбор не создаёт объектов версий. При параллельном разборе
+     * буфер делится по границам строк на участки размером около {@value #PARALLEL_CHUNK} байтов, которые разбираются в
+     * общем пуле fork-join.
+     *
+     * @param buffer буфер байтов в кодировке ASCII.
+     * @param parallel разбирать ли буфер параллельно.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @see #parseAll(ByteBuffer)
+     * @see #parseAll(Path, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public static @NotNull long[] parseAll(final @NotNull ByteBuffer buffer, final boolean parallel)
+            throws NullException, VersionFormatException {
+        Validator.notNull(buffer, "The passed buffer");
+        return parse(buffer, buffer.position(), buffer.limit(), 0, parallel);
+    }
+
+    /**
+     * Разбирает и возвращает {@linkplain Version#pack(int, int) упакованные версии} из переданного файла.
+     *
+     * @param path путь к файлу в кодировке ASCII.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @see #parseAll(Path, boolean)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null -> new; _ -> fail")
+    public static @NotNull long[] parseAll(final @NotNull Path path)
+            throws NullException, IOException, VersionFormatException {
+        return parseAll(path, false);
+    }
+
+    /**
+     * Разбирает и возвращает {@linkplain Version#pack(int, int) упакованные версии} из переданного файла так же, как
+     * и {@link #parseAll(ByteBuffer, boolean)}.
+     * <p>
+     * Файл отображается в память областями размером не более {@value #REGION} байтов, оканчивающимися на границе
+     * строки, поэтому его размер не ограничен, а данные не копируются в кучу.
+     *
+     * @param path путь к файлу в кодировке ASCII.
+     * @param parallel разбирать ли файл параллельно.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @see #parseAll(Path)
+     * @since 1.0.0-RC2
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public static @NotNull long[] parseAll(final @NotNull Path path, final boolean parallel)
+            throws NullException, IOException, VersionFormatException {
+        try (final var channel = FileChannel.open(Validator.notNull(path, "The passed path"),
+                                                  StandardOpenOption.READ)) {
+            final var size = channel.size();
+            final var parts = new ArrayList<long[]>();
+            for (var position = 0L; position < size; ) {
+                final var length = (int) Math.min(REGION, size - position);
+                final var region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                var end = length;
+                if (position + length < size) {
+                    while (end > 0 && region.get(end - 1) != '\n') {
+                        --end;
+                    }
+                    if (end == 0) {
+                        throw new VersionFormatException("The passed file contains a line longer than the region size");
+                    }
+                }
+                parts.add(parse(region, 0, end, position, parallel));
+                position += end;
+            }
+            return concat(parts.toArray(long[][]::new));
+        }
+    }
+
+    /**
+     * Разбирает и возвращает упакованные версии из переданного участка буфера байтов, при необходимости параллельно.
+     *
+     * @param buffer буфер байтов.
+     * @param from начальный индекс (включительно).
+     * @param to конечный индекс (исключительно).
+     * @param base смещение участка в исходных данных для сообщений об ошибках.
+     * @param parallel разбирать ли участок параллельно.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull long[] parse(final @NotNull ByteBuffer buffer, final int from, final int to,
+                                         final long base, final boolean parallel) throws VersionFormatException {
+        if (!parallel || to - from < PARALLEL_CHUNK << 1) {
+            return parse(buffer, from, to, base);
+        }
+        final var chunks = (int) (((long) to - from + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK);
+        final var bounds = new int[chunks + 1];
+        bounds[0] = from;
+        for (var chunk = 1; chunk < chunks; ++chunk) {
+            var bound = Math.max(bounds[chunk - 1], from + chunk * PARALLEL_CHUNK);
+            while (bound < to && buffer.get(bound - 1) != '\n') {
+                ++bound;
+            }
+            bounds[chunk] = bound;
+        }
+        bounds[chunks] = to;
+        final var parts = IntStream.range(0, chunks)
+                                   .parallel()
+                                   .mapToObj(chunk -> parse(buffer.duplicate(), bounds[chunk], bounds[chunk + 1], base))
+                                   .toArray(long[][]::new);
+        return concat(parts);
+    }
+
+    /**
+     * Объединяет и возвращает переданные массивы упакованных версий, копируя каждый из них один раз.
+     *
+     * @param parts массивы упакованных версий.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull long[] concat(final @NotNull long[][] parts) {
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        var size = 0L;
+        for (final var part : parts) {
+            size += part.length;
+        }
+        final var result = new long[Math.toIntExact(size)];
+        var offset = 0;
+        for (final var part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    /**
+     * Последовательно разбирает и возвращает упакованные версии из переданного участка буфера байтов.
+     * <p>
+     * Строки разбираются за один проход вместе с поиском их границ; правила разбора совпадают с
+     * {@link Version#parse(ByteBuffer, int, int)}.
+     *
+     * @param buffer буфер байтов.
+     * @param from начальный индекс (включительно).
+     * @param to конечный индекс (исключительно).
+     * @param base смещение участка в исходных данных для сообщений об ошибках.
+     *
+     * @return Массив упакованных версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull long[] parse(final @NotNull ByteBuffer buffer, final int from, final int to,
+                                         final long base) throws VersionFormatException {
+        var result = new long[Math.min(Math.max((to - from) >>> 3, 16), 1 << 16)];
+        var size = 0;
+        for (var index = from; index < to; ++index) {
+            final var line = index;
+            var major = 0L;
+            var minor = -1L;
+            var digits = 0;
+            for (; index < to; ++index) {
+                final var current = buffer.get(index);
+                if (current == '\n') {
+                    break;
+                }
+                if (current >= '0' && current <= '9') {
+                    if (minor < 0) {
+                        major = major * 10 + current - '0';
+                    } else {
+                        minor = minor * 10 + current - '0';
+                    }
+                    if (Math.max(major, minor) > Integer.MAX_VALUE) {
+                        throw invalid(base + line);
+                    }
+                    ++digits;
+                } else if (current == '.' && minor < 0 && digits > 0) {
+                    minor = 0;
+                    digits = 0;
+                } else if (current != '\r' || index + 1 < to && buffer.get(index + 1) != '\n') {
+                    throw invalid(base + line);
+                }
+            }
+            if (digits == 0) {
+                if (minor < 0) {
+                    continue;
+                }
+                throw invalid(base + line);
+            }
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size + (size >> 1));
+            }
+            result[size++] = major << 32 | Math.max(minor, 0);
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Создаёт и возвращает исключение о недопустимой версии по переданному смещению.
+     *
+     * @param offset смещение строки в исходных данных.
+     *
+     * @return Исключение о недопустимой версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static @NotNull VersionFormatException invalid(final long offset) {
+        return new VersionFormatException("The passed data contains an invalid version at offset " + offset);
+    }
+
+    /**
+     * Устойчиво сортирует переданные неотрицательные ключи и, если они переданы, связанные с ними значения поразрядно,
+     * по 8 бит за проход.
+     *
+     * @param originalKeys ключи.
+     * @param originalValues значения или {@code null}.
+     * @param size количество ключей.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void radix(final @NotNull long[] originalKeys, final @Nullable Object[] originalValues,
+                              final int size) {
+        var keys = originalKeys;
+        var values = originalValues;
+        final var counts = new int[8][256];
+        for (var index = 0; index < size; ++index) {
+            final var key = keys[index];
+            for (var digit = 0; digit < 8; ++digit) {
+                ++counts[digit][(int) (key >>> (digit << 3)) & 0xff];
+            }
+        }
+        var keyBuffer = new long[size];
+        var valueBuffer = values == null ? null : new Object[size];
+        for (var digit = 0; digit < 8; ++digit) {
+            final var count = counts[digit];
+            final var shift = digit << 3;
+            if (count[(int) (keys[0] >>> shift) & 0xff] == size) {
+                continue;
+            }
+            var offset = 0;
+            for (var bucket = 0; bucket < 256; ++bucket) {
+                final var next = offset + count[bucket];
+                count[bucket] = offset;
+                offset = next;
+            }
+            for (var index = 0; index < size; ++index) {
+                final var key = keys[index];
+                final var position = count[(int) (key >>> shift) & 0xff]++;
+                keyBuffer[position] = key;
+                if (values != null) {
+                    valueBuffer[position] = values[index];
+                }
+            }
+            final var keySwap = keys;
+            keys = keyBuffer;
+            keyBuffer = keySwap;
+            final var valueSwap = values;
+            values = valueBuffer;
+            valueBuffer = valueSwap;
+        }
+        if (keys != originalKeys) {
+            System.arraycopy(keys, 0, originalKeys, 0, size);
+            if (values != null) {
+                System.arraycopy(values, 0, originalValues, 0, size);
+            }
+        }
+    }
+
+}
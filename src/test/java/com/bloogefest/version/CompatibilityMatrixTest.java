@@ -0,0 +1,73 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки {@linkplain CompatibilityMatrix#write(java.io.DataOutput) сохранения} и
+ * {@linkplain CompatibilityMatrix#read(java.io.DataInput) загрузки} матрицы совместимости, в том числе из повреждённых
+ * данных.
+ *
+ * @since 1.0.0-RC2
+ */
+class CompatibilityMatrixTest {
+
+    private static final int MAGIC = 0x4246434D;
+
+    @Test
+    void writtenMatricesReadBack() throws NullException, IOException {
+        final var clients = VersionSet.ofPacked(Version.pack(1, 0), Version.pack(1, 1), Version.pack(2, 0));
+        final var servers = VersionSet.ofPacked(Version.pack(1, 0), Version.pack(2, 0), Version.pack(2, 3));
+        final var matrix = CompatibilityMatrix.builder(clients, servers).sameMajor()
+                                              .deny(DoubleVersion.of(1, 1), DoubleVersion.of(1, 0)).build();
+        final var bytes = new ByteArrayOutputStream();
+        matrix.write(new DataOutputStream(bytes));
+        final var read = CompatibilityMatrix.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(matrix, read, "matrix");
+        assertTrue(read.isCompatible(Version.pack(2, 0), Version.pack(2, 3)), "same major");
+        assertFalse(read.isCompatible(Version.pack(1, 1), Version.pack(1, 0)), "denied");
+    }
+
+    @Test
+    void hostileLengthsFailWithoutAllocatingThem() throws IOException {
+        assertThrows(EOFException.class, () -> read(Integer.MAX_VALUE - 8, 1, 1), "huge clients");
+        assertThrows(EOFException.class, () -> read(1, Integer.MAX_VALUE - 8, 1), "huge servers");
+        assertThrows(EOFException.class, () -> read(1 << 16, 1 << 16, 1 << 16), "huge table");
+        assertThrows(VersionFormatException.class, () -> read(Integer.MAX_VALUE, 1, 1), "too many clients");
+        assertThrows(VersionFormatException.class, () -> read(-1, 1, 1), "negative clients");
+        assertThrows(VersionFormatException.class, () -> read(1, -1, 1), "negative servers");
+    }
+
+    private static void read(final int clients, final int servers, final int written)
+            throws NullException, IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC);
+        for (final var length : new int[]{clients, servers}) {
+            output.writeInt(length);
+            for (var minor = 0; minor < Math.min(length, written); ++minor) {
+                output.writeLong(Version.pack(1, minor));
+            }
+        }
+        CompatibilityMatrix.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Проверки номеров, передаваемых конструкторам {@linkplain MultiVersion.Impl встроенной реализации} и
+ * {@linkplain TripleVersion.Impl её наследника}.
+ *
+ * @since 1.0.0-RC2
+ */
+class MultiVersionTest {
+
+    @Test
+    void constructorsRejectNegativeComponents() {
+        final int[][] components = {{-1, 0, 0}, {0, -1, 0}, {0, 0, -1}};
+        for (final var numbers : components) {
+            final var text = numbers[0] + "." + numbers[1] + "." + numbers[2];
+            assertThrows(IllegalArgumentException.class, () -> new MultiVersion.Impl(numbers, null, null),
+                         "array " + text);
+            assertThrows(IllegalArgumentException.class,
+                         () -> new TripleVersion.Impl(numbers[0], numbers[1], numbers[2]), "triple " + text);
+            assertThrows(IllegalArgumentException.class,
+                         () -> TripleVersion.of(numbers[0], numbers[1], numbers[2], "alpha", null),
+                         "labelled triple " + text);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки {@linkplain VersionCodec#encodeFixed(SingleVersion) фиксированной} и
+ * {@linkplain VersionCodec#writeVarint(SingleVersion, byte[], int) переменной} кодировок версий.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionCodecTest {
+
+    @Test
+    void equalVersionsOfDifferentFormatsEncodeToEqualKeys() throws NullException {
+        final List<SingleVersion> ones = List.of(SingleVersion.of(1), new SingleVersion.Impl(1), DoubleVersion.of(1, 0),
+                                                 new DoubleVersion.Impl(1, 0), Version.parse("1"), Version.parse("1.0"),
+                                                 new VersionGenerator.ForeignSingle(1),
+                                                 new VersionGenerator.ForeignDouble(1, 0));
+        final var expected = VersionCodec.encodeFixed(SingleVersion.of(1));
+        for (final var one : ones) {
+            assertEquals(expected, VersionCodec.encodeFixed(one), () -> "key of " + one);
+            final var bytes = new byte[VersionCodec.FIXED_BYTES];
+            VersionCodec.writeFixed(one, bytes, 0);
+            assertEquals(0, VersionCodec.readFixed(bytes, 0).compareTo(one), () -> "decoded " + one);
+        }
+    }
+
+    @Test
+    void fixedKeysKeepPackedOrder() throws NullException {
+        final var versions = new VersionGenerator(11).list(400).stream()
+                                                     .filter(version -> !(version instanceof MultiVersion))
+                                                     .toList();
+        for (final var first : versions) {
+            final var key = VersionCodec.encodeFixed(first);
+            assertEquals(first.pack(), key, () -> "key of " + first);
+            assertEquals(0, VersionCodec.decodeFixed(key).compareTo(first), () -> "decoded " + first);
+            final var left = new byte[VersionCodec.FIXED_BYTES];
+            VersionCodec.writeFixed(first, left, 0);
+            for (final var second : versions) {
+                final var right = new byte[VersionCodec.FIXED_BYTES];
+                VersionCodec.writeFixed(second, right, 0);
+                final var order = Integer.signum(Arrays.compareUnsigned(left, right));
+                assertEquals(Integer.signum(first.compareTo(second)), order,
+                             () -> "byte order of " + first + " and " + second);
+            }
+        }
+        final var largest = DoubleVersion.of(1, Integer.MAX_VALUE);
+        assertTrue(VersionCodec.encodeFixed(largest) < VersionCodec.encodeFixed(SingleVersion.of(2)), "largest minor");
+    }
+
+    @Test
+    void decodeFixedRejectsForeignBits() {
+        assertThrows(VersionFormatException.class, () -> VersionCodec.decodeFixed(-1), "sign bit");
+        assertThrows(VersionFormatException.class, () -> VersionCodec.decodeFixed(1L << 31), "minor overflow");
+    }
+
+    @Test
+    void varintKeepsFormat() throws NullException {
+        for (final var version : List.of(SingleVersion.of(1), DoubleVersion.of(1, 0), DoubleVersion.of(300, 70_000))) {
+            final var bytes = new byte[VersionCodec.MAX_VARINT_BYTES];
+            final var length = VersionCodec.writeVarint(version, bytes, 0);
+            assertEquals(VersionCodec.varintLength(version), length, () -> "length of " + version);
+            final var decoded = VersionCodec.readVarint(bytes, 0);
+            assertEquals(version, decoded, () -> "decoded " + version);
+            assertEquals(version instanceof DoubleVersion, decoded instanceof DoubleVersion, () -> "format " + version);
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Нагрузочные проверки фабричных методов, {@linkplain VersionCache кеша канонических экземпляров} и потокобезопасных
+ * контейнеров версий при одновременном обращении из многих потоков.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionConcurrencyTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @Timeout(60)
+    void factoriesReturnRequestedVersions() throws Exception {
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                // Большие номера попадают в общие ячейки кеша и вытесняют друг друга.
+                final var major = random.nextBoolean() ? random.nextInt(VersionCache.MAJORS) : random.nextInt(1 << 16);
+                final var minor = random.nextBoolean() ? random.nextInt(VersionCache.MINORS) : random.nextInt(1 << 16);
+                final var single = SingleVersion.of(major);
+                assertEquals(major, single.major(), () -> "major of " + single);
+                final var doubled = DoubleVersion.of(major, minor);
+                assertEquals(major, doubled.major(), () -> "major of " + doubled);
+                assertEquals(minor, doubled.minor(), () -> "minor of " + doubled);
+                assertEquals(new DoubleVersion.Impl(major, minor), doubled);
+                assertEquals(Version.pack(major, minor), doubled.pack(), () -> "packed " + doubled);
+            }
+        });
+    }
+
+    @Test
+    @Timeout(60)
+    void comparisonsStayConsistentWhileVersionsAreReplaced() throws Exception {
+        final var shared = new AtomicReferenceArray<SingleVersion>(64);
+        final var generator = new VersionGenerator(1);
+        for (var index = 0; index < shared.length(); ++index) {
+            shared.set(index, generator.next());
+        }
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            final var local = new VersionGenerator(thread);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                if ((thread & 1) == 0 && random.nextInt(4) == 0) {
+                    shared.set(random.nextInt(shared.length()), local.next());
+                    continue;
+                }
+                final var first = shared.get(random.nextInt(shared.length()));
+                final var second = shared.get(random.nextInt(shared.length()));
+                assertEquals(Integer.signum(first.compareTo(second)), -Integer.signum(second.compareTo(first)),
+                             () -> "antisymmetry of " + first + " and " + second);
+                if (first instanceof SingleVersion.Impl && second instanceof SingleVersion.Impl
+                    && first.equals(second)) {
+                    assertEquals(first.hashCode(), second.hashCode(), () -> "hash codes of " + first);
+                }
+            }
+        });
+    }
+
+    @Test
+    @Timeout(60)
+    void internerReturnsParsedVersions() throws Exception {
+        final var interner = new VersionInterner(256);
+        final var total = new AtomicLong();
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                final var text = random.nextInt(random.nextBoolean() ? 16 : 1024) + "." + random.nextInt(8);
+                final var version = interner.parse(text);
+                assertEquals(Version.parse(text), version, () -> "interned " + text);
+                assertTrue(version instanceof DoubleVersion, () -> "format of " + text);
+            }
+            total.addAndGet(ITERATIONS);
+        });
+        assertEquals(total.get(), interner.hits() + interner.misses(), "lookups");
+    }
+
+    @Test
+    @Timeout(60)
+    void versionedCacheNeverReturnsInvalidatedValues() throws Exception {
+        final var cache = new VersionedCache<Integer, Long>(1024);
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                final var key = random.nextInt(2048);
+                if (thread == 0 && iteration % 1000 == 0) {
+                    cache.invalidateBelow(Version.pack(iteration / 1000, 0));
+                    continue;
+                }
+                if (random.nextBoolean()) {
+                    final var version = Version.pack(random.nextInt(ITERATIONS / 1000), random.nextInt(4));
+                    cache.put(key, version, version);
+                    continue;
+                }
+                final var watermark = cache.watermark();
+                final var value = cache.get(key);
+                if (value != null) {
+                    assertTrue(value >= watermark, () -> "value " + value + " below watermark " + watermark);
+                }
+            }
+        });
+        assertTrue(cache.size() <= 1024, "capacity");
+    }
+
+    @Test
+    @Timeout(60)
+    void registryAdvancesMonotonically() throws Exception {
+        final var registry = new VersionRegistry();
+        final var components = 8;
+        final var maximums = new AtomicLongArray(components);
+        for (var component = 0; component < components; ++component) {
+            maximums.set(component, VersionSet.NONE);
+        }
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            final var seen = new long[components];
+            Arrays.fill(seen, VersionSet.NONE);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                final var component = random.nextInt(components);
+                final var name = "component" + component;
+                if (random.nextBoolean()) {
+                    final var version = Version.pack(random.nextInt(64), random.nextInt(64));
+                    registry.advanceIfNewer(name, version);
+                    maximums.accumulateAndGet(component, version, Math::max);
+                    continue;
+                }
+                final var latest = registry.latestPacked(name);
+                final var previous = seen[component];
+                assertTrue(latest >= previous, () -> name + " went back from " + previous + " to " + latest);
+                seen[component] = latest;
+            }
+        });
+        for (var component = 0; component < components; ++component) {
+            assertEquals(maximums.get(component), registry.latestPacked("component" + component), "latest");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void routerSwapsWholeTables() throws Exception {
+        final var router = new VersionRouter<>(table(0));
+        final var boundary = Version.pack(5, 0);
+        run(thread -> {
+            final var random = new SplittableRandom(thread);
+            for (var iteration = 0; iteration < ITERATIONS; ++iteration) {
+                if (thread == 0 && iteration % 100 == 0) {
+                    router.swap(table(iteration));
+                    continue;
+                }
+                final var table = router.table();
+                final var low = table.route(random.nextLong(boundary));
+                final var high = table.route(boundary + random.nextLong(boundary));
+                assertNotNull(router.route(random.nextInt(10), random.nextInt(10)), "route");
+                assertEquals(low.generation(), high.generation(), "generation");
+                assertTrue(low.low() && !high.low(), "target");
+            }
+        });
+    }
+
+    private static VersionRouter.Table<Pool> table(final int generation) throws NullException {
+        return VersionRouter.<Pool>builder()
+                            .rule(VersionRange.interval(0, Version.pack(5, 0)), new Pool(generation, true))
+                            .fallback(new Pool(generation, false))
+                            .build();
+    }
+
+    /**
+     * Запускает переданную задачу одновременно в {@value #THREADS} потоках и пробрасывает первую ошибку.
+     *
+     * @param task задача, получающая номер потока.
+     *
+     * @since 1.0.0-RC2
+     */
+    private static void run(final Task task) throws Exception {
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final var start = new CountDownLatch(1);
+            final var futures = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < THREADS; ++thread) {
+                final var index = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException exception) {
+                    if (exception.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    throw exception;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        void run(int thread) throws Exception;
+
+    }
+
+    private record Pool(int generation, boolean low) {
+
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.annotation.NotNull;
+import com.bloogefest.annotation.Nullable;
+import com.bloogefest.common.validation.NullException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Генератор случайных версий всех встроенных реализаций, разобранных версий и сторонних реализаций.
+ * <p>
+ * Номера выбираются из небольшого множества с частыми совпадениями, а также около границ
+ * {@linkplain VersionCache кеша канонических экземпляров} и наибольшего значения, чтобы равные версии разных форматов
+ * и реализаций встречались часто.
+ *
+ * @since 1.0.0-RC2
+ */
+final class VersionGenerator {
+
+    private static final String[] PRE_RELEASES = {null, null, "alpha", "alpha.1", "alpha.beta", "beta", "beta.2",
+                                                  "rc.1", "1", "2", "x-1"};
+
+    private static final String[] BUILDS = {null, null, "build.1", "sha-abc"};
+
+    private final SplittableRandom random;
+
+    VersionGenerator(final long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Создаёт и возвращает переданное количество случайных версий.
+     *
+     * @param size количество версий.
+     *
+     * @return Список версий.
+     *
+     * @since 1.0.0-RC2
+     */
+    @NotNull List<SingleVersion> list(final int size) throws NullException {
+        final var result = new ArrayList<SingleVersion>(size);
+        for (var index = 0; index < size; ++index) {
+            result.add(next());
+        }
+        return result;
+    }
+
+    /**
+     * Создаёт и возвращает случайную версию случайной реализации.
+     *
+     * @return Версию.
+     *
+     * @since 1.0.0-RC2
+     */
+    @NotNull SingleVersion next() throws NullException {
+        final var major = number();
+        final var minor = number();
+        return switch (random.nextInt(12)) {
+            case 0 -> SingleVersion.of(major);
+            case 1 -> new SingleVersion.Impl(major);
+            case 2 -> DoubleVersion.of(major, minor);
+            case 3 -> new DoubleVersion.Impl(major, minor);
+            case 4 -> TripleVersion.of(major, minor, number(), preRelease(), build());
+            case 5 -> MultiVersion.of(components(), preRelease(), build());
+            case 6 -> Version.parse(random.nextBoolean() ? major + "" : major + "." + minor);
+            case 7 -> MultiVersion.parse(MultiVersion.of(components(), preRelease(), build()).toString());
+            case 8 -> new ForeignSingle(major);
+            case 9 -> new ForeignDouble(major, minor);
+            case 10 -> Versions.adapt(new ForeignDouble(major, minor));
+            default -> VersionCache.doubled(major, minor);
+        };
+    }
+
+    /**
+     * Возвращает случайный номер версии.
+     *
+     * @return Номер версии.
+     *
+     * @since 1.0.0-RC2
+     */
+    int number() {
+        final var kind = random.nextInt(20);
+        if (kind < 14) {
+            return random.nextInt(4);
+        }
+        if (kind < 17) {
+            return VersionCache.MAJORS - 2 + random.nextInt(4);
+        }
+        return kind < 19 ? random.nextInt(Integer.MAX_VALUE) : Integer.MAX_VALUE;
+    }
+
+    private @NotNull int[] components() {
+        final var components = new int[1 + random.nextInt(6)];
+        for (var index = 0; index < components.length; ++index) {
+            components[index] = random.nextInt(3);
+        }
+        return components;
+    }
+
+    private @Nullable String preRelease() {
+        return PRE_RELEASES[random.nextInt(PRE_RELEASES.length)];
+    }
+
+    private @Nullable String build() {
+        return BUILDS[random.nextInt(BUILDS.length)];
+    }
+
+    /**
+     * Сторонняя реализация версии одиночного формата, использующая только методы интерфейса по умолчанию.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final class ForeignSingle implements SingleVersion {
+
+        private final int major;
+
+        ForeignSingle(final int major) {
+            this.major = major;
+        }
+
+        @Override
+        public int major() {
+            return major;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "ForeignSingle[" + major + ']';
+        }
+
+    }
+
+    /**
+     * Сторонняя реализация версии двойного формата, использующая только методы интерфейса по умолчанию.
+     *
+     * @since 1.0.0-RC2
+     */
+    static final class ForeignDouble implements DoubleVersion {
+
+        private final int major;
+
+        private final int minor;
+
+        ForeignDouble(final int major, final int minor) {
+            this.major = major;
+            this.minor = minor;
+        }
+
+        @Override
+        public int major() {
+            return major;
+        }
+
+        @Override
+        public int minor() {
+            return minor;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "ForeignDouble[" + major + '.' + minor + ']';
+        }
+
+    }
+
+}
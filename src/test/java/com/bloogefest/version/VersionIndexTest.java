@@ -0,0 +1,86 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки {@linkplain VersionIndex#open(Path) открытия} индекса версий, в том числе файлов с повреждённым каталогом
+ * артефактов.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionIndexTest {
+
+    private static final int ENTRY = 32;
+
+    @Test
+    void writtenIndexesOpen() throws NullException, IOException {
+        final var file = write();
+        try {
+            final var index = VersionIndex.open(file);
+            assertEquals(2, index.artifacts(), "artifacts");
+            assertEquals("alpha", index.artifact(0), "first artifact");
+            assertEquals("beta", index.artifact(1), "second artifact");
+            assertTrue(index.contains("alpha", Version.pack(1, 2)), "alpha");
+            assertTrue(index.contains("beta", Version.pack(3, 0)), "beta");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void corruptDirectoriesAreRejected() throws NullException, IOException {
+        assertRejected(directory -> {
+            final var first = Arrays.copyOfRange(directory, 0, ENTRY);
+            System.arraycopy(directory, ENTRY, directory, 0, ENTRY);
+            System.arraycopy(first, 0, directory, ENTRY, ENTRY);
+        }, "descending names");
+        assertRejected(directory -> System.arraycopy(directory, 0, directory, ENTRY, 16), "duplicate names");
+        assertRejected(directory -> ByteBuffer.wrap(directory).putLong(16, Long.MAX_VALUE), "overflowing start");
+        assertRejected(directory -> ByteBuffer.wrap(directory).putLong(ENTRY + 24, 4), "count beyond size");
+        assertRejected(directory -> ByteBuffer.wrap(directory).putLong(0, Long.MAX_VALUE), "overflowing name");
+    }
+
+    private static void assertRejected(final Consumer<byte[]> corruption, final String message)
+            throws NullException, IOException {
+        final var file = write();
+        try {
+            final var bytes = Files.readAllBytes(file);
+            final var directory = Arrays.copyOfRange(bytes, bytes.length - 2 * ENTRY, bytes.length);
+            corruption.accept(directory);
+            System.arraycopy(directory, 0, bytes, bytes.length - 2 * ENTRY, directory.length);
+            Files.write(file, bytes);
+            assertThrows(VersionFormatException.class, () -> VersionIndex.open(file), message);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Path write() throws NullException, IOException {
+        final var file = Files.createTempFile("index", ".bfvi");
+        try (final var writer = VersionIndex.writer(file)) {
+            writer.add("beta", Version.pack(3, 0));
+            writer.add("alpha", Version.pack(1, 0));
+            writer.add("alpha", Version.pack(1, 2));
+        }
+        return file;
+    }
+
+}
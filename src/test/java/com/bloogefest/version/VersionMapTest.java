@@ -0,0 +1,91 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки {@linkplain VersionMap отображения версий}: согласованности перегрузок с упакованными версиями, номерами и
+ * версиями, а также поведения и поиска ближайших версий при случайных изменениях.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionMapTest {
+
+    @Test
+    void overloadsAddressTheSameKeys() throws NullException {
+        final var map = new VersionMap<String>();
+        assertEquals(null, map.put(1, 4, "a"), "put numbers");
+        assertTrue(map.containsKey(1, 4), "contains numbers");
+        assertTrue(map.containsKey(Version.pack(1, 4)), "contains packed");
+        assertTrue(map.containsKey(DoubleVersion.of(1, 4)), "contains version");
+        assertEquals("a", map.put(DoubleVersion.of(1, 4), "b"), "put version");
+        assertEquals("b", map.put(Version.pack(1, 4), "c"), "put packed");
+        assertEquals("c", map.get(1, 4), "get numbers");
+        assertEquals(null, map.put(2, 0, "d"), "put single");
+        assertEquals("d", map.get(SingleVersion.of(2)), "get single");
+        assertEquals("d", map.remove(2, 0), "remove numbers");
+        assertFalse(map.containsKey(2, 0), "removed numbers");
+        assertEquals(null, map.remove(2, 0), "removed twice");
+        assertEquals("c", map.remove(DoubleVersion.of(1, 4)), "remove version");
+        assertTrue(map.isEmpty(), "empty");
+    }
+
+    @Test
+    void randomChangesMatchHashMap() throws NullException {
+        final var random = new SplittableRandom(5);
+        final var map = new VersionMap<Integer>();
+        final var expected = new HashMap<Long, Integer>();
+        for (var iteration = 0; iteration < 200_000; ++iteration) {
+            final var major = random.nextInt(64);
+            final var minor = random.nextInt(64);
+            final var packed = Version.pack(major, minor);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(packed, iteration), map.put(major, minor, iteration), "put");
+                case 1 -> assertEquals(expected.remove(packed), map.remove(major, minor), "remove");
+                default -> assertEquals(expected.containsKey(packed), map.containsKey(major, minor), "contains");
+            }
+            assertEquals(expected.size(), map.size(), "size");
+        }
+        for (final var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()), "value");
+        }
+    }
+
+    @Test
+    void nearestKeysFollowInterleavedChanges() throws NullException {
+        final var random = new SplittableRandom(13);
+        final var map = new VersionMap<Integer>();
+        final var expected = new TreeMap<Long, Integer>();
+        for (var iteration = 0; iteration < 20_000; ++iteration) {
+            final var packed = Version.pack(random.nextInt(32), random.nextInt(32));
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.put(packed, iteration), map.put(packed, iteration), "put");
+                case 1 -> assertEquals(expected.remove(packed), map.remove(packed), "remove");
+                default -> {
+                    final var floor = expected.floorEntry(packed);
+                    final var ceiling = expected.ceilingEntry(packed);
+                    assertEquals(floor == null ? VersionSet.NONE : floor.getKey(), map.floorKey(packed), "floor key");
+                    assertEquals(floor == null ? null : floor.getValue(), map.floor(packed), "floor");
+                    assertEquals(ceiling == null ? VersionSet.NONE : ceiling.getKey(), map.ceilingKey(packed),
+                                 "ceiling key");
+                    assertEquals(ceiling == null ? null : ceiling.getValue(), map.ceiling(packed), "ceiling");
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Проверки точного количества сравнений, учитываемых {@linkplain VersionMetrics.Counters счётчиком} по каждому пути.
+ * Счётчик выбирается {@linkplain VersionMetrics#PROPERTY системным свойством}, которое задаёт отдельная задача сборки
+ * {@code metricsTest} в своей виртуальной машине, поэтому остальные проверки выполняются без учёта сравнений.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionMetricsTest {
+
+    @Test
+    void comparisonsAreCountedOncePerPath() throws NullException {
+        assumeTrue(VersionMetrics.current() instanceof VersionMetrics.Counters, "counters are not enabled");
+        final var counters = (VersionMetrics.Counters) VersionMetrics.current();
+        final var single = SingleVersion.of(1);
+        final var doubled = DoubleVersion.of(1, 0);
+        final var newer = DoubleVersion.of(1, 3);
+        final var foreign = new VersionGenerator.ForeignDouble(1, 0);
+        final var alpha = MultiVersion.parse("1.0.0-alpha");
+        final var beta = MultiVersion.parse("1.0.0-beta");
+        final Version version = newer;
+
+        counters.reset();
+        doubled.newer(version);
+        assertCounts(counters, 1, 0, 0, 0, "same types through Version");
+        doubled.newer(newer);
+        doubled.compareTo(newer);
+        assertCounts(counters, 3, 0, 0, 0, "same types");
+        doubled.same((Version) single);
+        assertCounts(counters, 4, 0, 0, 1, "single and double");
+        doubled.same(new DoubleVersion.Impl(1, 0));
+        assertCounts(counters, 5, 0, 0, 1, "cached and constructed doubles");
+        doubled.older((Version) foreign);
+        assertCounts(counters, 5, 1, 0, 1, "foreign double");
+        alpha.compareTo(beta);
+        assertCounts(counters, 6, 1, 1, 1, "pre-releases");
+        doubled.compareTo(alpha);
+        assertCounts(counters, 7, 1, 2, 2, "double and multi");
+        single.newer((Version) newer);
+        single.same(doubled);
+        assertCounts(counters, 7, 1, 2, 2, "majors only");
+    }
+
+    private static void assertCounts(final VersionMetrics.Counters counters, final long builtIn, final long foreign,
+                                     final long extended, final long crossType, final String message) {
+        assertEquals(builtIn, counters.comparisons(VersionMetrics.Dispatch.BUILT_IN), message + ": built-in");
+        assertEquals(foreign, counters.comparisons(VersionMetrics.Dispatch.FOREIGN), message + ": foreign");
+        assertEquals(extended, counters.comparisons(VersionMetrics.Dispatch.EXTENDED), message + ": extended");
+        assertEquals(crossType, counters.comparisons(VersionMetrics.Dispatch.CROSS_TYPE), message + ": cross-type");
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки свойств порядка версий на случайных выборках из {@linkplain VersionGenerator всех реализаций}: полноты,
+ * антисимметричности и транзитивности сравнения, согласованности {@code equals}, {@code hashCode} и методов
+ * {@code newer}, {@code same} и {@code older} со сравнением.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionOrderTest {
+
+    private static final int SAMPLES = 400;
+
+    private static final long SEED = 0x42465645L;
+
+    @Test
+    void compareToIsTotalAndAntisymmetric() throws NullException {
+        final var versions = new VersionGenerator(SEED).list(SAMPLES);
+        for (final var first : versions) {
+            assertEquals(0, first.compareTo(first), () -> "reflexivity of " + first);
+            for (final var second : versions) {
+                final var forward = Integer.signum(first.compareTo(second));
+                final var backward = Integer.signum(second.compareTo(first));
+                assertEquals(forward, -backward, () -> "antisymmetry of " + first + " and " + second);
+            }
+        }
+    }
+
+    @Test
+    void compareToIsTransitive() throws NullException {
+        final var versions = new ArrayList<>(new VersionGenerator(SEED + 1).list(SAMPLES));
+        versions.sort(SingleVersion::compareTo);
+        for (var first = 0; first < versions.size(); ++first) {
+            for (var second = first + 1; second < versions.size(); ++second) {
+                final var left = versions.get(first);
+                final var right = versions.get(second);
+                assertTrue(left.compareTo(right) <= 0, () -> "order of sorted " + left + " and " + right);
+            }
+        }
+        final var random = new SplittableRandom(SEED);
+        for (var attempt = 0; attempt < 200_000; ++attempt) {
+            final var a = pick(versions, random);
+            final var b = pick(versions, random);
+            final var c = pick(versions, random);
+            if (a.compareTo(b) <= 0 && b.compareTo(c) <= 0) {
+                assertTrue(a.compareTo(c) <= 0, () -> "transitivity of " + a + ", " + b + " and " + c);
+            }
+            if (a.compareTo(b) == 0) {
+                assertEquals(Integer.signum(a.compareTo(c)), Integer.signum(b.compareTo(c)),
+                             () -> "substitutability of " + a + " and " + b + " against " + c);
+            }
+        }
+    }
+
+    @Test
+    void equalsIsConsistentWithCompareTo() throws NullException {
+        final var versions = new VersionGenerator(SEED + 2).list(SAMPLES);
+        for (final var first : versions) {
+            if (!(first instanceof SingleVersion.Impl)) {
+                continue;
+            }
+            assertFalse(first.equals(null), () -> first + " equals null");
+            for (final var second : versions) {
+                final var equal = first.compareTo(second) == 0;
+                assertEquals(equal, first.equals(second), () -> "equals of " + first + " and " + second);
+                if (second instanceof SingleVersion.Impl) {
+                    assertEquals(first.equals(second), second.equals(first),
+                                 () -> "symmetry of equals of " + first + " and " + second);
+                }
+            }
+        }
+    }
+
+    @Test
+    void hashCodeIsConsistentWithEquals() throws NullException {
+        final var versions = new VersionGenerator(SEED + 3).list(SAMPLES);
+        for (final var first : versions) {
+            for (final var second : versions) {
+                if (first instanceof SingleVersion.Impl && second instanceof SingleVersion.Impl
+                    && first.equals(second)) {
+                    assertEquals(first.hashCode(), second.hashCode(),
+                                 () -> "hash codes of equal " + first + " and " + second);
+                }
+            }
+        }
+    }
+
+    @Test
+    void doubleVersionRelationsMatchCompareTo() throws NullException {
+        final var versions = new VersionGenerator(SEED + 4).list(SAMPLES);
+        for (final var current : versions) {
+            if (!(current instanceof DoubleVersion doubled)) {
+                continue;
+            }
+            for (final var other : versions) {
+                final var order = Integer.signum(doubled.compareTo(other));
+                final Version version = other;
+                assertEquals(order < 0, doubled.newer(other), () -> current + " newer " + other);
+                assertEquals(order == 0, doubled.same(other), () -> current + " same " + other);
+                assertEquals(order > 0, doubled.older(other), () -> current + " older " + other);
+                assertEquals(order < 0, doubled.newer(version), () -> current + " newer version " + other);
+                assertEquals(order == 0, doubled.same(version), () -> current + " same version " + other);
+                assertEquals(order > 0, doubled.older(version), () -> current + " older version " + other);
+            }
+        }
+    }
+
+    @Test
+    void singleVersionRelationsCompareMajors() throws NullException {
+        final var versions = new VersionGenerator(SEED + 5).list(SAMPLES);
+        for (final var current : versions) {
+            if (current instanceof DoubleVersion) {
+                continue;
+            }
+            for (final var other : versions) {
+                final var order = Integer.compare(current.major(), other.major());
+                final Version version = other;
+                assertEquals(order < 0, current.newer(other), () -> current + " newer " + other);
+                assertEquals(order == 0, current.same(other), () -> current + " same " + other);
+                assertEquals(order > 0, current.older(other), () -> current + " older " + other);
+                assertEquals(order < 0, current.newer(version), () -> current + " newer version " + other);
+                assertEquals(order == 0, current.same(version), () -> current + " same version " + other);
+                assertEquals(order > 0, current.older(version), () -> current + " older version " + other);
+            }
+        }
+    }
+
+    @Test
+    void packedComparisonMatchesCompareTo() throws NullException {
+        final var versions = new VersionGenerator(SEED + 6).list(SAMPLES);
+        for (final var first : versions) {
+            for (final var second : versions) {
+                if (first instanceof MultiVersion || second instanceof MultiVersion) {
+                    assertTrue(first.pack() == second.pack() || Long.compare(first.pack(), second.pack())
+                                                                == Integer.signum(first.compareTo(second)),
+                               () -> "packed order of " + first + " and " + second);
+                } else {
+                    assertEquals(Long.compare(first.pack(), second.pack()), Integer.signum(first.compareTo(second)),
+                                 () -> "packed order of " + first + " and " + second);
+                }
+            }
+        }
+    }
+
+    @Test
+    void adaptedVersionsCompareLikeOriginals() throws NullException {
+        final var versions = new VersionGenerator(SEED + 7).list(SAMPLES);
+        for (final var first : versions) {
+            final var adapted = Versions.adapt(first);
+            assertEquals(0, adapted.compareTo(first), () -> "adapted " + first);
+            for (final var second : versions) {
+                assertEquals(Integer.signum(first.compareTo(second)), Integer.signum(adapted.compareTo(second)),
+                             () -> "adapted " + first + " against " + second);
+            }
+        }
+    }
+
+    @Test
+    void singleVersionEqualsDoubleVersionWithZeroMinor() throws NullException {
+        final List<SingleVersion> ones = List.of(SingleVersion.of(1), new SingleVersion.Impl(1), DoubleVersion.of(1),
+                                                 DoubleVersion.of(1, 0), new DoubleVersion.Impl(1, 0),
+                                                 Version.parse("1"), Version.parse("1.0"), MultiVersion.of(1, 0, 0),
+                                                 MultiVersion.parse("1.0.0+build.1"), TripleVersion.of(1, 0, 0));
+        for (final var first : ones) {
+            for (final var second : ones) {
+                assertEquals(first, second, () -> first + " equals " + second);
+                assertEquals(first.hashCode(), second.hashCode(), () -> first + " hash code " + second);
+                assertEquals(0, first.compareTo(second), () -> first + " compared to " + second);
+            }
+            assertTrue(first.same(new VersionGenerator.ForeignSingle(1)), () -> first + " same foreign");
+        }
+        final var preRelease = MultiVersion.parse("1.0.0-alpha");
+        for (final var one : ones) {
+            assertFalse(one.equals(preRelease), () -> one + " equals pre-release");
+            assertTrue(preRelease.compareTo(one) < 0, () -> "pre-release before " + one);
+        }
+        assertFalse(DoubleVersion.of(1, 0).same(DoubleVersion.of(1, 1)));
+        assertTrue(SingleVersion.of(1).same(DoubleVersion.of(1, 1)));
+    }
+
+    private static SingleVersion pick(final List<SingleVersion> versions, final SplittableRandom random) {
+        return versions.get(random.nextInt(versions.size()));
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Проверки точных границ диапазонов, {@linkplain VersionRange#parse(CharSequence) разобранных} из условий {@code ~}
+ * и {@code ^}.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionRangeTest {
+
+    @Test
+    void tildeLocksMajorAndMinor() throws NullException {
+        assertBounds("~1.4", Version.pack(1, 4), Version.pack(1, 5));
+        assertBounds("~0.3", Version.pack(0, 3), Version.pack(0, 4));
+        assertBounds("~0.0", Version.pack(0, 0), Version.pack(0, 1));
+        assertBounds("~1", Version.pack(1, 0), Version.pack(2, 0));
+        assertBounds("~0", Version.pack(0, 0), Version.pack(1, 0));
+    }
+
+    @Test
+    void caretLocksLeftmostNonZeroComponent() throws NullException {
+        assertBounds("^1.4", Version.pack(1, 4), Version.pack(2, 0));
+        assertBounds("^1.0", Version.pack(1, 0), Version.pack(2, 0));
+        assertBounds("^0.3", Version.pack(0, 3), Version.pack(0, 4));
+        assertBounds("^0.0", Version.pack(0, 0), Version.pack(0, 1));
+        assertBounds("^1", Version.pack(1, 0), Version.pack(2, 0));
+        assertBounds("^0", Version.pack(0, 0), Version.pack(1, 0));
+    }
+
+    @Test
+    void operatorsAtLargestNumbers() throws NullException {
+        assertBounds("^" + Integer.MAX_VALUE + ".1", Version.pack(Integer.MAX_VALUE, 1), Long.MAX_VALUE);
+        final var last = Version.pack(1, Integer.MAX_VALUE);
+        assertBounds("~1." + Integer.MAX_VALUE, last, last + 1);
+        final var zero = Version.pack(0, Integer.MAX_VALUE);
+        assertBounds("^0." + Integer.MAX_VALUE, zero, zero + 1);
+    }
+
+    @Test
+    void operatorsSurviveFormatting() throws NullException {
+        for (final var expression : new String[]{"~1.4", "^1.4", "~1", "^0.3", "^0.0", "^0", "~0.0"}) {
+            final var range = VersionRange.parse(expression);
+            assertEquals(range, VersionRange.parse(range.toString()), () -> "formatted " + expression);
+        }
+    }
+
+    private static void assertBounds(final String expression, final long start, final long end)
+            throws NullException {
+        final var range = VersionRange.parse(expression);
+        assertEquals(1, range.intervals(), () -> "intervals of " + expression);
+        assertEquals(start, range.start(0), () -> "start of " + expression);
+        assertEquals(end, range.end(0), () -> "end of " + expression);
+    }
+
+}
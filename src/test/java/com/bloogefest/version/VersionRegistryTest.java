@@ -0,0 +1,116 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки обещаний {@linkplain VersionRegistry реестра версий}: их выполнения и удаления отменённых обещаний и
+ * записей неопубликованных компонентов.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionRegistryTest {
+
+    @Test
+    void cancelledWaitersOfUnpublishedComponentsLeaveNoEntry() throws NullException {
+        final var registry = new VersionRegistry();
+        final var first = registry.awaitAtLeast("typo", Version.pack(1, 0));
+        final var second = registry.awaitAtLeast("typo", Version.pack(2, 0));
+        assertEquals(2, registry.waiters("typo"), "waiters");
+        first.cancel(false);
+        assertEquals(1, registry.waiters("typo"), "waiters after cancel");
+        second.completeExceptionally(new IllegalStateException());
+        assertEquals(-1, registry.waiters("typo"), "entry after last waiter");
+        assertEquals(VersionSet.NONE, registry.latestPacked("typo"), "latest");
+        assertTrue(registry.snapshot().isEmpty(), "snapshot");
+        final var third = registry.awaitAtLeast("typo", Version.pack(1, 0));
+        assertTrue(registry.advanceIfNewer("typo", Version.pack(1, 0)), "advance");
+        assertEquals(DoubleVersion.of(1, 0), third.getNow(null), "completed after retirement");
+    }
+
+    @Test
+    void cancelledWaitersOfPublishedComponentsAreRemovedAtOnce() throws NullException {
+        final var registry = new VersionRegistry();
+        registry.advanceIfNewer("schema", Version.pack(1, 0));
+        final var futures = new ArrayList<CompletableFuture<DoubleVersion>>();
+        for (var minor = 1; minor <= 100; ++minor) {
+            futures.add(registry.awaitAtLeast("schema", Version.pack(1, minor)));
+        }
+        for (var index = 0; index < futures.size(); index += 2) {
+            futures.get(index).cancel(false);
+        }
+        assertEquals(50, registry.waiters("schema"), "waiters after cancel");
+        registry.advanceIfNewer("schema", Version.pack(1, 50));
+        assertEquals(25, registry.waiters("schema"), "waiters after advance");
+        for (var index = 1; index < 50; index += 2) {
+            assertEquals(DoubleVersion.of(1, 50), futures.get(index).getNow(null), "completed " + index);
+        }
+        assertEquals(1, registry.latest("schema").major(), "latest");
+    }
+
+    @Test
+    @Timeout(60)
+    void concurrentWaitersAndAdvancesAllComplete() throws Exception {
+        final var registry = new VersionRegistry();
+        final var futures = new ArrayList<CompletableFuture<DoubleVersion>>();
+        final var writer = new Thread(() -> {
+            for (var minor = 0; minor <= 10_000; ++minor) {
+                try {
+                    registry.advanceIfNewer("component", Version.pack(0, minor));
+                } catch (final NullException exception) {
+                    throw new AssertionError(exception);
+                }
+            }
+        });
+        writer.start();
+        for (var minor = 0; minor <= 10_000; minor += 7) {
+            futures.add(registry.awaitAtLeast("component", Version.pack(0, minor)));
+        }
+        writer.join();
+        for (var index = 0; index < futures.size(); ++index) {
+            final var target = index * 7;
+            final var reached = futures.get(index).get(10, TimeUnit.SECONDS).minor();
+            assertTrue(reached >= target, () -> "completed " + target + " with " + reached);
+        }
+        assertEquals(0, registry.waiters("component"), "waiters");
+    }
+
+    @Test
+    @Timeout(60)
+    void retiringEntriesNeverLosesFirstPublication() throws Exception {
+        for (var round = 0; round < 2_000; ++round) {
+            final var registry = new VersionRegistry();
+            final var published = Version.pack(round, 0);
+            final var canceller = new Thread(() -> {
+                for (var attempt = 0; attempt < 50; ++attempt) {
+                    try {
+                        registry.awaitAtLeast("component", Long.MAX_VALUE).cancel(false);
+                    } catch (final NullException exception) {
+                        throw new AssertionError(exception);
+                    }
+                }
+            });
+            canceller.start();
+            final var waiter = registry.awaitAtLeast("component", published);
+            registry.advanceIfNewer("component", published);
+            canceller.join();
+            assertEquals(published, registry.latestPacked("component"), "latest");
+            assertEquals(DoubleVersion.of(round, 0), waiter.getNow(null), "waiter");
+        }
+    }
+
+}
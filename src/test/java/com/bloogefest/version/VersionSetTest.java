@@ -0,0 +1,60 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Проверки {@linkplain VersionSet#subSet(long, boolean, long, boolean) подмножеств}, разделяющих массив с исходным
+ * множеством: их границ и поиска ближайших версий.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionSetTest {
+
+    @Test
+    void viewsResolveBoundsWithinTheirSlice() throws NullException {
+        final var set = VersionSet.ofPacked(Version.pack(1, 0), Version.pack(1, 5), Version.pack(2, 0),
+                                            Version.pack(3, 0), Version.pack(4, 0));
+
+        final var head = set.headSet(Version.pack(2, 0), false);
+        assertEquals(2, head.size(), "head size");
+        assertEquals(DoubleVersion.of(1, 0), head.first(), "head first");
+        assertEquals(DoubleVersion.of(1, 5), head.last(), "head last");
+        assertEquals(Version.pack(1, 5), head.floor(Version.pack(3, 0)), "head floor");
+        assertEquals(VersionSet.NONE, head.ceiling(Version.pack(1, 6)), "head ceiling");
+
+        final var tail = set.tailSet(Version.pack(3, 0), true);
+        assertEquals(2, tail.size(), "tail size");
+        assertEquals(DoubleVersion.of(3, 0), tail.first(), "tail first");
+        assertEquals(DoubleVersion.of(4, 0), tail.last(), "tail last");
+        assertEquals(VersionSet.NONE, tail.floor(Version.pack(2, 5)), "tail floor");
+        assertEquals(Version.pack(3, 0), tail.ceiling(Version.pack(1, 0)), "tail ceiling");
+
+        final var middle = set.subSet(Version.pack(1, 0), false, Version.pack(4, 0), false);
+        assertEquals(3, middle.size(), "middle size");
+        assertEquals(DoubleVersion.of(1, 5), middle.first(), "middle first");
+        assertEquals(DoubleVersion.of(3, 0), middle.last(), "middle last");
+        assertEquals(Version.pack(2, 0), middle.floor(Version.pack(2, 9)), "middle floor");
+        assertEquals(VersionSet.NONE, middle.floor(Version.pack(1, 4)), "middle floor below");
+        assertEquals(Version.pack(2, 0), middle.ceiling(Version.pack(1, 6)), "middle ceiling");
+        assertEquals(VersionSet.NONE, middle.ceiling(Version.pack(3, 1)), "middle ceiling above");
+        assertEquals(DoubleVersion.of(1, 5), middle.ceiling(SingleVersion.of(1)), "middle ceiling version");
+
+        final var empty = set.subSet(Version.pack(2, 1), true, Version.pack(2, 9), true);
+        assertEquals(0, empty.size(), "empty size");
+        assertNull(empty.first(), "empty first");
+        assertNull(empty.last(), "empty last");
+        assertSame(set, set.subSet(Version.pack(0, 0), true, Version.pack(9, 0), true), "whole");
+    }
+
+}
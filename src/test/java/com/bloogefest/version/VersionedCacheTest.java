@@ -0,0 +1,65 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверки {@linkplain VersionedCache кеша версий}: глобальной инвалидации порогом и вытеснения устаревших записей
+ * раньше действительных.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionedCacheTest {
+
+    @Test
+    void invalidationIsGlobal() throws NullException {
+        final var cache = new VersionedCache<String, String>(16, 1);
+        assertTrue(cache.put("a", Version.pack(1, 0), "a1"), "put a");
+        assertTrue(cache.put("b", Version.pack(2, 0), "b2"), "put b");
+        assertTrue(cache.invalidateBelow(Version.pack(2, 0)), "raise");
+        assertFalse(cache.invalidateBelow(Version.pack(1, 5)), "lower");
+        assertNull(cache.get("a"), "older key");
+        assertEquals("b2", cache.get("b"), "current key");
+        assertFalse(cache.put("a", Version.pack(1, 9), "a1"), "put below watermark");
+        assertTrue(cache.invalidate("b"), "invalidate key");
+        assertNull(cache.get("b"), "invalidated key");
+    }
+
+    @Test
+    void staleEntriesAreEvictedBeforeLiveOnes() throws NullException {
+        final var cache = new VersionedCache<Integer, Integer>(8, 1);
+        for (var key = 0; key < 4; ++key) {
+            cache.put(key, Version.pack(2, 0), key);
+        }
+        for (var key = 4; key < 8; ++key) {
+            cache.put(key, Version.pack(1, 0), key);
+        }
+        cache.invalidateBelow(Version.pack(2, 0));
+        assertEquals(8, cache.size(), "stale entries are kept until needed");
+        for (var key = 8; key < 12; ++key) {
+            cache.put(key, Version.pack(2, 0), key);
+        }
+        assertEquals(8, cache.size(), "size");
+        for (var key = 0; key < 4; ++key) {
+            assertEquals(Integer.valueOf(key), cache.get(key), "live " + key);
+        }
+        for (var key = 8; key < 12; ++key) {
+            assertEquals(Integer.valueOf(key), cache.get(key), "new " + key);
+        }
+        cache.put(12, Version.pack(2, 0), 12);
+        assertNull(cache.get(0), "least recently used live entry");
+        assertEquals(Integer.valueOf(12), cache.get(12), "newest");
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.version;
+
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Проверки {@linkplain Versions#sort(long[]) сортировки упакованных версий} на участках, сортируемых сравнением и
+ * поразрядно, и {@linkplain Versions#parseAll(java.nio.file.Path, boolean) разбора файлов}.
+ *
+ * @since 1.0.0-RC2
+ */
+class VersionsTest {
+
+    private static final int[] SIZES = {0, 1, 2, Versions.RADIX_THRESHOLD - 1, Versions.RADIX_THRESHOLD,
+                                        Versions.RADIX_THRESHOLD * 8};
+
+    @Test
+    void sortOrdersPackedVersionsOfEverySize() throws NullException {
+        final var random = new SplittableRandom(7);
+        for (final var size : SIZES) {
+            final var packed = new long[size];
+            for (var index = 0; index < size; ++index) {
+                packed[index] = Version.pack(random.nextInt(Integer.MAX_VALUE), random.nextInt(Integer.MAX_VALUE));
+            }
+            final var expected = packed.clone();
+            Arrays.sort(expected);
+            Versions.sort(packed);
+            assertArrayEquals(expected, packed, "sorted " + size);
+        }
+    }
+
+    @Test
+    void sortRejectsNegativeValuesOfEverySize() {
+        for (final var size : SIZES) {
+            if (size == 0) {
+                continue;
+            }
+            final var packed = new long[size];
+            for (var index = 0; index < size; ++index) {
+                packed[index] = size - index;
+            }
+            packed[size / 2] = -1;
+            final var original = packed.clone();
+            assertThrows(IllegalArgumentException.class, () -> Versions.sort(packed), "negative in " + size);
+            assertArrayEquals(original, packed, "unchanged " + size);
+        }
+    }
+
+    @Test
+    void parseAllReadsFilesLikeBuffers() throws NullException, IOException {
+        final var random = new SplittableRandom(11);
+        final var text = new StringBuilder();
+        final var expected = new long[200_000];
+        for (var index = 0; index < expected.length; ++index) {
+            final var major = random.nextInt(1 << 20);
+            final var minor = random.nextInt(1 << 10);
+            expected[index] = Version.pack(major, minor);
+            text.append(major).append('.').append(minor).append(index % 7 == 0 ? "\r\n\n" : "\n");
+        }
+        final var bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        final var file = Files.createTempFile("versions", ".txt");
+        try {
+            Files.write(file, bytes);
+            for (final var parallel : new boolean[]{false, true}) {
+                assertArrayEquals(expected, Versions.parseAll(ByteBuffer.wrap(bytes), parallel), "buffer " + parallel);
+                assertArrayEquals(expected, Versions.parseAll(file, parallel), "file " + parallel);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}